@@ -101,4 +101,16 @@ public class Ansi {
     System.out.print("\033[H\033[2J");  
     System.out.flush(); 
   }
+
+  public static String cursorTo(int row, int column) {
+    return ("\033[" + row + ";" + column + "H");
+  }
+
+  public static String eraseLine() {
+    return "\033[2K";
+  }
+
+  public static String eraseBelow() {
+    return "\033[J";
+  }
 }
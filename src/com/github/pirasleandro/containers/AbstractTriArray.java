@@ -0,0 +1,142 @@
+package com.github.pirasleandro.containers;
+
+/**
+ * @author Leandro Piras
+ * @version 1.1
+ *
+ * Base class of the packed triangular arrays, which store one value per slot of a triangle of the given size.
+ * The slots are numbered like {@link com.github.pirasleandro.containers.TriGrid#indexOf(int, int, Slot)},
+ * row y holds the 2*y+1 slots from the index y*y on, so the slot at x/y/slot has the index
+ * y*y + 2*x (+1 for slot B) and an array of the size n holds exactly n*n values.
+ * Subclasses only add the typed array and accessors, all index calculations are done here.
+ *
+ * @see com.github.pirasleandro.containers.TriArray
+ * @see com.github.pirasleandro.containers.IntTriArray
+ * @see com.github.pirasleandro.containers.ByteTriArray
+ * @see com.github.pirasleandro.containers.BitTriArray
+ */
+public abstract class AbstractTriArray {
+  /**
+   * Size of the triangle, which is the amount of rows.
+   */
+  protected final int size;
+
+  /**
+   * A basic constructor.
+   *
+   * @param size  size of the triangle
+   *
+   * @throws IllegalArgumentException if the size is smaller than 1 or too big for an array
+   */
+  protected AbstractTriArray(int size) {
+    if (size < 1) {
+      throw new IllegalArgumentException("cannot invoke TriArray of size " + size + ". Must be minimum 1.");
+    }
+    if ((long) size*size > Integer.MAX_VALUE - 8) {
+      throw new IllegalArgumentException("a TriArray of size " + size + " does not fit into an array.");
+    }
+    this.size = size;
+  }
+
+  /**
+   * A method used to get the index of the given slot.
+   *
+   * @param x     x coordinate of the cell
+   * @param y     y coordinate of the cell
+   * @param slot  slot of the cell
+   * @return      index of the slot
+   *
+   * @throws IndexOutOfBoundsException if the coordinates are not valid
+   */
+  public int index(int x, int y, Slot slot) {
+    if (!areCordsValid(x, y, slot)) {
+      throw new IndexOutOfBoundsException("Index " + x + "/" + y + "/" + slot + " out of bounds for size " + size + ".");
+    }
+    return (y*y) + (x*2) + (slot.isA() ? 0 : 1);
+  }
+
+  /**
+   * A method to determine if the given coordinates are valid.
+   * Slots A exist for x from 0 to y, slots B for x from 0 to y-1.
+   *
+   * @param x     x coordinate
+   * @param y     y coordinate
+   * @param slot  slot
+   * @return      true if the coordinates are valid, false if they're not
+   */
+  public boolean areCordsValid(int x, int y, Slot slot) {
+    return (y >= 0 && y < size && x >= 0 && (slot.isA() ? x <= y : x < y));
+  }
+
+  /**
+   * A method used to get the index of the first slot of the given row.
+   *
+   * @param y y coordinate of the row
+   * @return  index of the first slot
+   *
+   * @throws IndexOutOfBoundsException if the row doesn't exist
+   */
+  public int rowStart(int y) {
+    checkRow(y);
+    return y*y;
+  }
+
+  /**
+   * A method used to get the amount of slots in the given row, which is 2*y+1.
+   *
+   * @param y y coordinate of the row
+   * @return  amount of slots in the row
+   *
+   * @throws IndexOutOfBoundsException if the row doesn't exist
+   */
+  public int rowLength(int y) {
+    checkRow(y);
+    return (y*2)+1;
+  }
+
+  /**
+   * A method used to visit all rows from top to bottom as ranges of indices.
+   *
+   * @param visitor visitor called for every row
+   */
+  public void forEachRow(TriRowVisitor visitor) {
+    for (int y = 0; y < size; y++) {
+      visitor.visit(y, y*y, (y+1)*(y+1));
+    }
+  }
+
+  /**
+   * getter
+   *
+   * @return  size of the triangle
+   */
+  public int getSize() {
+    return size;
+  }
+
+  /**
+   * A method used to get the amount of slots, which is size*size.
+   *
+   * @return  amount of slots
+   */
+  public int length() {
+    return size*size;
+  }
+
+  /**
+   * A method used to make sure that the given array has the same size, so it can be copied.
+   *
+   * @throws IllegalArgumentException if the sizes are not equal
+   */
+  protected void checkSize(AbstractTriArray other) {
+    if (other.size != size) {
+      throw new IllegalArgumentException("cannot copy a TriArray of size " + other.size + " into one of size " + size + ".");
+    }
+  }
+
+  private void checkRow(int y) {
+    if (y < 0 || y >= size) {
+      throw new IndexOutOfBoundsException("Row " + y + " out of bounds for size " + size + ".");
+    }
+  }
+}
@@ -1,5 +1,8 @@
 package com.github.pirasleandro.containers;
 
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 /**
  * @author Leandro Piras
  * @version 1.1
@@ -40,6 +43,19 @@ public class AdvGrid<T,W,C> extends Grid<T,W> {
     fill(defaultCell, defaultWall, defaultCorner);
   }
 
+  /**
+   * A constructor used by subclasses that bring their own storage.
+   * 
+   * @param width     width of the grid
+   * @param height    height of the grid
+   * @param gridArray Object[][] where all values will be stored in, or null
+   * 
+   * @see com.github.pirasleandro.containers.Grid#Grid(int, int, Object[][])
+   */
+  protected AdvGrid(int width, int height, Object[][] gridArray) {
+    super(width, height, gridArray);
+  }
+
   /**
    * A method used to set all values of the grid to the given default values
    * 
@@ -48,12 +64,43 @@ public class AdvGrid<T,W,C> extends Grid<T,W> {
    * @param defaultCorner Object that all corners will be set to
    */
   public void fill(T defaultCell, W defaultWall, C defaultCorner) {
-    super.fill(defaultCell, defaultWall);
-    for (int y = 0; y < super.height; y++) {
-      for (int x = 0; x < super.width; x++) {
-        setCorners(x, y, defaultCorner);
-      }
-    }
+    fillRegion(0, 0, width, height, defaultCell, defaultWall, defaultCorner);
+  }
+
+  /**
+   * A method used to set the cells, walls and corners of the given region to the given values.
+   * The walls and corners at the border of the region are set as well.
+   * 
+   * @param x             x coordinate of the upper left cell of the region
+   * @param y             y coordinate of the upper left cell of the region
+   * @param regionWidth   width of the region in cells
+   * @param regionHeight  height of the region in cells
+   * @param cell          value that the cells will be set to
+   * @param wall          value that the walls will be set to
+   * @param corner        value that the corners will be set to
+   * 
+   * @throws IndexOutOfBoundsException if the region is not inside of the grid
+   */
+  public void fillRegion(int x, int y, int regionWidth, int regionHeight, T cell, W wall, C corner) {
+    checkRegion(x, y, regionWidth, regionHeight);
+    fillLattice(x, y, regionWidth, regionHeight, new Object[] {corner, wall, wall, cell}, CELLS | WALLS | CORNERS);
+  }
+
+  /**
+   * A method used to set the corners of the cells of the given region to the given value.
+   * The corners at the border of the region are set as well.
+   * 
+   * @param x             x coordinate of the upper left cell of the region
+   * @param y             y coordinate of the upper left cell of the region
+   * @param regionWidth   width of the region in cells
+   * @param regionHeight  height of the region in cells
+   * @param corner        value that the corners will be set to
+   * 
+   * @throws IndexOutOfBoundsException if the region is not inside of the grid
+   */
+  public void fillCorners(int x, int y, int regionWidth, int regionHeight, C corner) {
+    checkRegion(x, y, regionWidth, regionHeight);
+    fillLattice(x, y, regionWidth, regionHeight, new Object[] {corner, null, null, null}, CORNERS);
   }
 
   /**
@@ -68,6 +115,51 @@ public class AdvGrid<T,W,C> extends Grid<T,W> {
     fill(defaultCell, defaultWall, null);
   }
 
+  /**
+   * A method used to get a read-only snapshot of the current state of the grid in O(1).
+   * 
+   * @return  read-only snapshot of the grid
+   * 
+   * @throws UnsupportedOperationException if the grid doesn't use the gridArray as storage
+   * 
+   * @see com.github.pirasleandro.containers.Grid#snapshot()
+   */
+  @Override
+  public AdvGrid<T,W,C> snapshot() {
+    AdvGrid<T,W,C> snapshot = new AdvGrid<>(width, height, shareArray());
+    snapshot.setReadOnly();
+    return snapshot;
+  }
+
+  /**
+   * A method used to get a Stream of all corner values in row-major order.
+   * The Stream splits into bands of rows, so it can be processed in parallel.
+   * 
+   * @return  Stream of the corner values
+   */
+  @SuppressWarnings("unchecked")
+  public Stream<C> corners() {
+    int cols = width+1;
+    return StreamSupport.stream(new GridSpliterator<C>(0, (long) cols*(height+1),
+      i -> (C) load((int) (i%cols)*2, (int) (i/cols)*2),
+      i -> i - (i%cols)), false);
+  }
+
+  /**
+   * A method used to visit all corners with their coordinates in row-major order.
+   * Corner coordinates are equal to their lower-right cells coordinates.
+   * 
+   * @param visitor visitor called for every corner
+   */
+  @SuppressWarnings("unchecked")
+  public void forEachCorner(CellVisitor<? super C> visitor) {
+    for (int y = 0; y <= height; y++) {
+      for (int x = 0; x <= width; x++) {
+        visitor.visit(x, y, (C) load(x*2, y*2));
+      }
+    }
+  }
+
   /**
    * A method used to get the value of the corner in the directions relative to the cell
    * at the given coordinates.
@@ -80,13 +172,13 @@ public class AdvGrid<T,W,C> extends Grid<T,W> {
    */
   public Object getCorner(int x, int y, Direction vDirection, Direction hDirection) {
     if (vDirection.equals(Direction.UP) && hDirection.equals(Direction.LEFT)) {
-      return super.gridArray[convert(y)-1][convert(x)-1]; // upper left
+      return load(convert(x)-1, convert(y)-1); // upper left
     } else if (vDirection.equals(Direction.UP) && hDirection.equals(Direction.RIGHT)) {
-      return super.gridArray[convert(y)-1][convert(x)+1]; // upper right
+      return load(convert(x)+1, convert(y)-1); // upper right
     } else if (vDirection.equals(Direction.DOWN) && hDirection.equals(Direction.LEFT)) {
-      return super.gridArray[convert(y)+1][convert(x)-1]; // lower left
+      return load(convert(x)-1, convert(y)+1); // lower left
     } else if (vDirection.equals(Direction.DOWN) && hDirection.equals(Direction.RIGHT)){
-      return super.gridArray[convert(y)+1][convert(x)+1]; // lower right
+      return load(convert(x)+1, convert(y)+1); // lower right
     } else {
       return null;
     }
@@ -101,7 +193,7 @@ public class AdvGrid<T,W,C> extends Grid<T,W> {
    * @return  Object with the value of the corner
    */
   public Object getCorner(int x, int y) {
-    return super.gridArray[y*2][x*2];
+    return load(x*2, y*2);
   }
 
   /**
@@ -116,13 +208,13 @@ public class AdvGrid<T,W,C> extends Grid<T,W> {
    */
   public void setCorner(int x, int y, Direction vDirection, Direction hDirection, C value) {
     if (vDirection == Direction.UP && hDirection == Direction.LEFT) {
-      super.gridArray[convert(y)-1][convert(x)-1] = value; // upper left
+      setObject(convert(x)-1, convert(y)-1, value); // upper left
     } else if (vDirection.equals(Direction.UP) && hDirection.equals(Direction.RIGHT)) {
-      super.gridArray[convert(y)-1][convert(x)+1] = value; // upper right
+      setObject(convert(x)+1, convert(y)-1, value); // upper right
     } else if (vDirection.equals(Direction.DOWN) && hDirection.equals(Direction.LEFT)) {
-      super.gridArray[convert(y)+1][convert(x)-1] = value; // lower left
+      setObject(convert(x)-1, convert(y)+1, value); // lower left
     } else if (vDirection.equals(Direction.DOWN) && hDirection.equals(Direction.RIGHT)){
-      super.gridArray[convert(y)+1][convert(x)+1] = value; // lower right
+      setObject(convert(x)+1, convert(y)+1, value); // lower right
     }
   }
 
@@ -135,7 +227,7 @@ public class AdvGrid<T,W,C> extends Grid<T,W> {
    * @param value the value the corner will be set to
    */
   public void setCorner(int x, int y, C value) {
-    super.gridArray[y*2][x*2] = value;
+    setObject(x*2, y*2, value);
   }
 
   /**
@@ -200,13 +292,13 @@ public class AdvGrid<T,W,C> extends Grid<T,W> {
    */
   public Object getFromCorner(int x, int y, Direction vDirection, Direction hDirection) {
     if (vDirection.equals(Direction.UP) && hDirection.equals(Direction.LEFT)) {
-      return super.gridArray[(y*2)-1][(x*2)+1]; // upper left
+      return load((x*2)+1, (y*2)-1); // upper left
     } else if (vDirection.equals(Direction.UP) && hDirection.equals(Direction.RIGHT)) {
-      return super.gridArray[(y*2)-1][(x*2)+1]; // upper right
+      return load((x*2)+1, (y*2)-1); // upper right
     } else if (vDirection.equals(Direction.DOWN) && hDirection.equals(Direction.LEFT)) {
-      return super.gridArray[(y*2)+1][(x*2)-1]; // lower left
+      return load((x*2)-1, (y*2)+1); // lower left
     } else if (vDirection.equals(Direction.DOWN) && hDirection.equals(Direction.RIGHT)){
-      return super.gridArray[(y*2)+1][(x*2)+1]; // lower right
+      return load((x*2)+1, (y*2)+1); // lower right
     } else {
       return null;
     }
@@ -224,10 +316,10 @@ public class AdvGrid<T,W,C> extends Grid<T,W> {
    */
   public Object getWallFromCorner(int x, int y, Direction direction) {
     switch (direction) {
-      case UP: return super.gridArray[(y*2)-1][x*2];
-      case DOWN: return super.gridArray[(y*2)+1][x*2];
-      case LEFT: return super.gridArray[y*2][(x*2)-1];
-      case RIGHT: return super.gridArray[y*2][(x*2)+1];
+      case UP: return load(x*2, (y*2)-1);
+      case DOWN: return load(x*2, (y*2)+1);
+      case LEFT: return load((x*2)-1, y*2);
+      case RIGHT: return load((x*2)+1, y*2);
       default: throw new EnumConstantNotPresentException(Direction.class, direction.toString());
     }
   }
@@ -244,10 +336,10 @@ public class AdvGrid<T,W,C> extends Grid<T,W> {
    */
   public void setWallFromCorner(int x, int y, Direction direction, W value) {
     switch (direction) {
-      case UP: super.gridArray[(y*2)-1][x*2] = value; break;
-      case DOWN: super.gridArray[(y*2)+1][x*2] = value; break;
-      case LEFT: super.gridArray[y*2][(x*2)-1] = value; break;
-      case RIGHT: super.gridArray[y*2][(x*2)+1] = value; break;
+      case UP: setObject(x*2, (y*2)-1, value); break;
+      case DOWN: setObject(x*2, (y*2)+1, value); break;
+      case LEFT: setObject((x*2)-1, y*2, value); break;
+      case RIGHT: setObject((x*2)+1, y*2, value); break;
       default: throw new EnumConstantNotPresentException(Direction.class, direction.toString());
     }
   }
@@ -0,0 +1,215 @@
+package com.github.pirasleandro.containers;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * @author Leandro Piras
+ * @version 1.1
+ *
+ * Primitive sibling of {@link com.github.pirasleandro.containers.TriArray} storing one bit per slot,
+ * packed into a long[] of (size*size+63)/64 values. Useful for flags like visited or covered slots,
+ * which can be counted a whole long at a time.
+ *
+ * @see com.github.pirasleandro.containers.AbstractTriArray
+ */
+public class BitTriArray extends AbstractTriArray {
+  /**
+   * long[] where all bits will be stored in, the slot at the index i is the bit i%64 of the long i/64.
+   */
+  protected final long[] words;
+
+  /**
+   * A basic constructor. All values will be false.
+   *
+   * @param size  size of the triangle
+   *
+   * @throws IllegalArgumentException if the size is smaller than 1
+   */
+  public BitTriArray(int size) {
+    super(size);
+    this.words = new long[(int) (((long) size*size + 63) >>> 6)];
+  }
+
+  /**
+   * A constructor that additionally sets all slots to the given default value.
+   *
+   * @param size          size of the triangle
+   * @param defaultValue  value that all slots will be set to
+   *
+   * @see com.github.pirasleandro.containers.BitTriArray#fill(boolean)
+   */
+  public BitTriArray(int size, boolean defaultValue) {
+    this(size);
+    fill(defaultValue);
+  }
+
+  /**
+   * A constructor copying all values of the given BitTriArray.
+   *
+   * @param triArray  BitTriArray to be copied
+   */
+  public BitTriArray(BitTriArray triArray) {
+    this(triArray.size);
+    copyFrom(triArray);
+  }
+
+  /**
+   * A method used to set all slots to the given default value.
+   * The unused bits of the last long stay 0.
+   *
+   * @param defaultValue  value that all slots will be set to
+   */
+  public void fill(boolean defaultValue) {
+    Arrays.fill(words, defaultValue ? -1L : 0L);
+    int rest = length() & 63;
+    if (defaultValue && rest != 0) {
+      words[words.length-1] = (1L << rest) - 1;
+    }
+  }
+
+  /**
+   * A method used to set all slots of the given row to the given value.
+   * Whole longs are written at once, only the longs at the ends of the row are masked.
+   *
+   * @param y     y coordinate of the row
+   * @param value value that the slots will be set to
+   */
+  public void fillRow(int y, boolean value) {
+    int from = rowStart(y);
+    setRange(from, from+rowLength(y), value);
+  }
+
+  /**
+   * A method used to copy all values of the given BitTriArray of the same size into this.
+   *
+   * @param triArray  BitTriArray to be copied
+   *
+   * @throws IllegalArgumentException if the sizes are not equal
+   */
+  public void copyFrom(BitTriArray triArray) {
+    checkSize(triArray);
+    System.arraycopy(triArray.words, 0, words, 0, words.length);
+  }
+
+  /**
+   * Returns the value of the given slot of the cell at the given coordinates.
+   *
+   * @param x     x coordinate of the cell
+   * @param y     y coordinate of the cell
+   * @param slot  slot of the cell
+   * @return      value of the slot
+   *
+   * @throws IndexOutOfBoundsException if the coordinates are not valid
+   */
+  public boolean getBoolean(int x, int y, Slot slot) {
+    return getBoolean(index(x, y, slot));
+  }
+
+  /**
+   * Returns the value of the slot at the given index.
+   *
+   * @param index index of the slot
+   * @return      value of the slot
+   *
+   * @see com.github.pirasleandro.containers.AbstractTriArray#index(int, int, Slot)
+   */
+  public boolean getBoolean(int index) {
+    Objects.checkIndex(index, length());
+    return (words[index >>> 6] & (1L << index)) != 0;
+  }
+
+  /**
+   * A method used to set the value of the given slot of the cell at the given coordinates.
+   *
+   * @param x     x coordinate of the cell
+   * @param y     y coordinate of the cell
+   * @param slot  slot of the cell
+   * @param value value the slot will be set to
+   *
+   * @throws IndexOutOfBoundsException if the coordinates are not valid
+   */
+  public void set(int x, int y, Slot slot, boolean value) {
+    set(index(x, y, slot), value);
+  }
+
+  /**
+   * A method used to set the value of the slot at the given index.
+   *
+   * @param index index of the slot
+   * @param value value the slot will be set to
+   *
+   * @see com.github.pirasleandro.containers.AbstractTriArray#index(int, int, Slot)
+   */
+  public void set(int index, boolean value) {
+    Objects.checkIndex(index, length());
+    if (value) {
+      words[index >>> 6] |= 1L << index;
+    } else {
+      words[index >>> 6] &= ~(1L << index);
+    }
+  }
+
+  /**
+   * A method used to count the slots that are true.
+   *
+   * @return  amount of true slots
+   */
+  public int count() {
+    int count = 0;
+    for (long word : words) {
+      count += Long.bitCount(word);
+    }
+    return count;
+  }
+
+  /**
+   * A method used to count the slots of the given row that are true.
+   *
+   * @param y y coordinate of the row
+   * @return  amount of true slots in the row
+   */
+  public int countRow(int y) {
+    int from = rowStart(y);
+    int to = from+rowLength(y);
+    int count = 0;
+    for (int word = from >>> 6; word <= (to-1) >>> 6; word++) {
+      count += Long.bitCount(words[word] & rangeMask(word, from, to));
+    }
+    return count;
+  }
+
+  /**
+   * Returns the long[] backing the BitTriArray. Changes to the array are visible in the BitTriArray.
+   *
+   * @return  long[] words
+   */
+  public long[] toArray() {
+    return words;
+  }
+
+  /**
+   * A method used to set the slots from the first index inclusive to the second index exclusive.
+   */
+  private void setRange(int from, int to, boolean value) {
+    for (int word = from >>> 6; word <= (to-1) >>> 6; word++) {
+      long mask = rangeMask(word, from, to);
+      words[word] = (value ? words[word] | mask : words[word] & ~mask);
+    }
+  }
+
+  /**
+   * A method used to get the bits of the given long that are between the first index inclusive
+   * and the second index exclusive.
+   */
+  private static long rangeMask(int word, int from, int to) {
+    long mask = -1L;
+    if (word == from >>> 6) {
+      mask &= -1L << from;
+    }
+    if (word == (to-1) >>> 6) {
+      mask &= -1L >>> (63 - ((to-1) & 63));
+    }
+    return mask;
+  }
+}
@@ -0,0 +1,346 @@
+package com.github.pirasleandro.containers;
+
+import java.util.Arrays;
+
+/**
+ * @author Leandro Piras
+ * @version 1.1
+ *
+ * Storage class used to store only the walls of a grid, packed as bits in a long[].
+ * Every corner owns two bits: the wall to its right (the upper wall of its lower-right cell) and
+ * the wall below it (the left wall of its lower-right cell). The walls at the right and lower border
+ * are owned by the corners of the last column and row, so a grid of width/height uses
+ * (width+1)*(height+1) corners and roughly two bits per cell.
+ * Corners are not stored, a corner counts as set if any of its adjacent walls is set.
+ * Corner coordinates are equal to their lower-right cells coordinates, like in
+ * {@link com.github.pirasleandro.containers.AdvGrid}.
+ */
+public class BitWallGrid {
+  // offset of the bit of the wall right of a corner
+  private static final int RIGHT_BIT = 0;
+  // offset of the bit of the wall below a corner
+  private static final int DOWN_BIT = 1;
+  /**
+   * Width and height of the grid.
+   */
+  protected final int width, height;
+  /**
+   * long[] where all wall bits will be stored in.
+   */
+  protected final long[] bits;
+
+  /**
+   * A basic constructor. All walls will be false.
+   *
+   * @param width   width of grid
+   * @param height  height of grid
+   *
+   * @throws IllegalArgumentException if the width or height is smaller than 1 or the grid is too big
+   */
+  public BitWallGrid(int width, int height) {
+    if (width < 1 || height < 1) {
+      throw new IllegalArgumentException("cannot invoke a grid of size " + width + "/" + height + ". Must be minimum 1.");
+    }
+    long words = ((2L*(width+1)*(height+1))+63) >>> 6;
+    if (words > Integer.MAX_VALUE - 8) {
+      throw new IllegalArgumentException("a grid of size " + width + "/" + height + " does not fit into an array.");
+    }
+    this.width = width;
+    this.height = height;
+    this.bits = new long[(int) words];
+  }
+
+  /**
+   * A constructor that additionally sets all walls to the given default value.
+   *
+   * @param width       width of grid
+   * @param height      height of grid
+   * @param defaultWall value all walls will be set to
+   *
+   * @see com.github.pirasleandro.containers.BitWallGrid#fill(boolean)
+   */
+  public BitWallGrid(int width, int height, boolean defaultWall) {
+    this(width, height);
+    fill(defaultWall);
+  }
+
+  /**
+   * A method used to set all walls to the given default value.
+   * Bits that don't belong to a wall, the right bits of the last corner column, the down bits of the
+   * last corner row and the unused bits of the last long, stay 0, so grids with the same walls
+   * always have the same longs.
+   *
+   * @param defaultWall value all walls will be set to
+   */
+  public void fill(boolean defaultWall) {
+    Arrays.fill(bits, defaultWall ? -1L : 0L);
+    if (defaultWall) {
+      for (int y = 0; y <= height; y++) {
+        setBit(bitIndex(width, y) + RIGHT_BIT, false);
+      }
+      for (int x = 0; x <= width; x++) {
+        setBit(bitIndex(x, height) + DOWN_BIT, false);
+      }
+      int rest = (int) ((2L*(width+1)*(height+1)) & 63);
+      if (rest != 0) {
+        bits[bits.length-1] &= (1L << rest) - 1;
+      }
+    }
+  }
+
+  /**
+   * A method used to get the index of the first bit of the corner at the given coordinates.
+   *
+   * @param x x coordinate of the corner
+   * @param y y coordinate of the corner
+   * @return  bit index of the corner
+   */
+  private long bitIndex(int x, int y) {
+    return (((long) y*(width+1))+x) << 1;
+  }
+
+  private boolean getBit(long index) {
+    return (bits[(int) (index >>> 6)] & (1L << index)) != 0;
+  }
+
+  private void setBit(long index, boolean value) {
+    if (value) {
+      bits[(int) (index >>> 6)] |= (1L << index);
+    } else {
+      bits[(int) (index >>> 6)] &= ~(1L << index);
+    }
+  }
+
+  /**
+   * A method used to get the bit index of the wall in the given direction relative to the cell at the given coordinates.
+   *
+   * @param x         x coordinate of the cell
+   * @param y         y coordinate of the cell
+   * @param direction direction of the wall relative to the cell
+   * @return          bit index of the wall
+   *
+   * @throws IndexOutOfBoundsException if the coordinates are not valid
+   */
+  protected long wallBit(int x, int y, Direction direction) {
+    if (!areCordsValid(x, y)) {
+      throw new IndexOutOfBoundsException("Index " + x + "/" + y + " out of bounds for size " + width + "/" + height + ".");
+    }
+    switch (direction) {
+      case UP: return bitIndex(x, y) + RIGHT_BIT;
+      case DOWN: return bitIndex(x, y+1) + RIGHT_BIT;
+      case LEFT: return bitIndex(x, y) + DOWN_BIT;
+      case RIGHT: return bitIndex(x+1, y) + DOWN_BIT;
+      default: throw new EnumConstantNotPresentException(Direction.class, direction.toString());
+    }
+  }
+
+  /**
+   * A method used to get the bit index of the wall in the given direction relative to the corner at the given coordinates.
+   *
+   * @param x         x coordinate of the corner
+   * @param y         y coordinate of the corner
+   * @param direction direction from corner to wall
+   * @return          bit index of the wall
+   *
+   * @throws IndexOutOfBoundsException if there is no wall in the given direction
+   */
+  protected long wallFromCornerBit(int x, int y, Direction direction) {
+    int wallX = (direction == Direction.LEFT ? x-1 : x);
+    int wallY = (direction == Direction.UP ? y-1 : y);
+    boolean valid = wallX >= 0 && wallY >= 0 && (direction.isHorizontal()
+      ? wallX < width && wallY <= height
+      : wallX <= width && wallY < height);
+    if (!valid) {
+      throw new IndexOutOfBoundsException("There is no wall " + direction + " of the corner " + x + "/" + y + ".");
+    }
+    return bitIndex(wallX, wallY) + (direction.isHorizontal() ? RIGHT_BIT : DOWN_BIT);
+  }
+
+  /**
+   * A method used to set the value of a wall relative to the cell at the given coordinates to the given value.
+   *
+   * @param x         x coordinate of the cell
+   * @param y         y coordinate of the cell
+   * @param direction direction of the wall relative to the cell
+   * @param value     value that the wall will be set to
+   */
+  public void setWall(int x, int y, Direction direction, boolean value) {
+    setBit(wallBit(x, y, direction), value);
+  }
+
+  /**
+   * A method used to set all values of the walls of the cell at the given coordinates to the given value.
+   *
+   * @param x           x coordinate of the cell
+   * @param y           y coordinate of the cell
+   * @param defaultWall value that the walls will be set to
+   */
+  public void setWalls(int x, int y, boolean defaultWall) {
+    setWall(x, y, Direction.UP, defaultWall);
+    setWall(x, y, Direction.DOWN, defaultWall);
+    setWall(x, y, Direction.LEFT, defaultWall);
+    setWall(x, y, Direction.RIGHT, defaultWall);
+  }
+
+  /**
+   * A method used to get the wall in the given direction relative to the cell at the given coordinates.
+   *
+   * @param x         x coordinate of the cell
+   * @param y         y coordinate of the cell
+   * @param direction direction of the wall relative to cell
+   * @return          value of the wall in the direction relative to the cell
+   */
+  public boolean getWall(int x, int y, Direction direction) {
+    return getBit(wallBit(x, y, direction));
+  }
+
+  /**
+   * A method used to set the border of the grid to the given value.
+   * The border are all the walls that are only adjacent to one cell.
+   *
+   * @param defaultWall value that the walls will be set to
+   */
+  public void setBorder(boolean defaultWall) {
+    for (int x = 0; x < width; x++) {
+      setWall(x, 0, Direction.UP, defaultWall);
+      setWall(x, height-1, Direction.DOWN, defaultWall);
+    }
+    for (int y = 0; y < height; y++) {
+      setWall(0, y, Direction.LEFT, defaultWall);
+      setWall(width-1, y, Direction.RIGHT, defaultWall);
+    }
+  }
+
+  /**
+   * A method used to get the value of the wall in the given direction relative to the corner
+   * at the given coordinates.
+   *
+   * @param x         x coordinate of the corner
+   * @param y         y coordinate of the corner
+   * @param direction direction from corner to wall
+   * @return          value of the wall
+   *
+   * @throws IndexOutOfBoundsException if there is no wall in the given direction
+   */
+  public boolean getWallFromCorner(int x, int y, Direction direction) {
+    return getBit(wallFromCornerBit(x, y, direction));
+  }
+
+  /**
+   * A method used to set the value of the wall in the given direction relative to the corner
+   * at the given coordinates.
+   *
+   * @param x         x coordinate of the corner
+   * @param y         y coordinate of the corner
+   * @param direction direction from corner to wall
+   * @param value     value that the wall will be set to
+   *
+   * @throws IndexOutOfBoundsException if there is no wall in the given direction
+   */
+  public void setWallFromCorner(int x, int y, Direction direction, boolean value) {
+    setBit(wallFromCornerBit(x, y, direction), value);
+  }
+
+  /**
+   * A method used to get the value of the corner at the given coordinates.
+   * A corner is set if at least one of its adjacent walls is set.
+   *
+   * @param x x coordinate of the corner
+   * @param y y coordinate of the corner
+   * @return  true if any adjacent wall is set, false if none is
+   *
+   * @throws IndexOutOfBoundsException if the coordinates are not valid
+   */
+  public boolean getCorner(int x, int y) {
+    if (x < 0 || x > width || y < 0 || y > height) {
+      throw new IndexOutOfBoundsException("Corner " + x + "/" + y + " out of bounds for size " + width + "/" + height + ".");
+    }
+    long index = bitIndex(x, y);
+    return (x < width && getBit(index + RIGHT_BIT))
+      || (y < height && getBit(index + DOWN_BIT))
+      || (x > 0 && getBit(index - 2 + RIGHT_BIT))
+      || (y > 0 && getBit(index - ((long) (width+1) << 1) + DOWN_BIT));
+  }
+
+  /**
+   * A method used to get the value of the corner in the directions relative to the cell
+   * at the given coordinates.
+   *
+   * @param x           x coordinate of the cell
+   * @param y           y coordinate of the cell
+   * @param vDirection  vertical direction from cell to corner
+   * @param hDirection  horizontal direciton from cell to corner
+   * @return            value of the corner in the directions relative to the cell
+   *
+   * @throws IllegalArgumentException if the directions don't point to a corner
+   */
+  public boolean getCorner(int x, int y, Direction vDirection, Direction hDirection) {
+    if (!vDirection.isVertical() || !hDirection.isHorizontal()) {
+      throw new IllegalArgumentException("The directions " + vDirection + "/" + hDirection + " don't point to a corner.");
+    }
+    return getCorner(
+      x + (hDirection == Direction.RIGHT ? 1 : 0),
+      y + (vDirection == Direction.DOWN ? 1 : 0));
+  }
+
+  /**
+   * A method used to calculate the direction that the cell at the second coordinates
+   * relative to the first coordinates is.
+   *
+   * @param x1  x coordinate of first cell
+   * @param y1  y coordinate of first cell
+   * @param x2  x coordinate of second cell
+   * @param y2  y coordinate of second cell
+   * @return    the direction of the second cell relative to the first cell
+   *
+   * @throws IllegalArgumentException if the cells are not neighbours
+   */
+  public Direction calcDirection(int x1, int y1, int x2, int y2) {
+    if (y1 != y2 && x1 != x2) {
+      throw new IllegalArgumentException("The coordinates " + x1 + "/" + y1 + " and " + x2 + "/" + y2 + " are not neighbours.");
+    }
+    if (y1 != y2) {
+      return (y1 > y2 ? Direction.UP : Direction.DOWN);
+    } else {
+      return (x1 > x2 ? Direction.LEFT : Direction.RIGHT);
+    }
+  }
+
+  /**
+   * A method used to determine if the coordinates are in the bounds of the grid.
+   *
+   * @param x x coordinate of the cell
+   * @param y y coordinate of the cell
+   * @return  true if the coordinates are valid, false if they're not
+   */
+  public boolean areCordsValid(int x, int y) {
+    return (x >= 0 && x < width && y >= 0 && y < height);
+  }
+
+  /**
+   * getter
+   *
+   * @return  int width of grid
+   */
+  public int getWidth() {
+    return width;
+  }
+
+  /**
+   * getter
+   *
+   * @return  int height of grid
+   */
+  public int getHeight() {
+    return height;
+  }
+
+  /**
+   * Returns the long[] backing the grid. Changes to the array are visible in the grid.
+   *
+   * @return  long[] with all wall bits
+   */
+  public long[] toArray() {
+    return bits;
+  }
+}
@@ -0,0 +1,243 @@
+package com.github.pirasleandro.containers;
+
+/**
+ * @author Leandro Piras
+ * @version 1.1
+ *
+ * Primitive sibling of {@link com.github.pirasleandro.containers.AdvGrid} storing cells, walls and corners
+ * as bytes in one flat byte[] instead of boxed values in an Object[][].
+ *
+ * @see com.github.pirasleandro.containers.PrimitiveGrid
+ */
+public class ByteGrid extends PrimitiveGrid {
+  /**
+   * byte[] where all values will be stored in.
+   */
+  protected final byte[] gridArray;
+
+  /**
+   * A basic constructor. All values will be 0.
+   *
+   * @param width   width of grid
+   * @param height  height of grid
+   */
+  public ByteGrid(int width, int height) {
+    super(width, height);
+    this.gridArray = new byte[cols*rows];
+  }
+
+  /**
+   * A constructor that additionally sets all values of the grid to the given default values.
+   *
+   * @param width         width of grid
+   * @param height        height of grid
+   * @param defaultCell   value that all cells will be set to
+   * @param defaultWall   value that all walls will be set to
+   * @param defaultCorner value that all corners will be set to
+   *
+   * @see com.github.pirasleandro.containers.ByteGrid#fill(byte, byte, byte)
+   */
+  public ByteGrid(int width, int height, byte defaultCell, byte defaultWall, byte defaultCorner) {
+    this(width, height);
+    fill(defaultCell, defaultWall, defaultCorner);
+  }
+
+  /**
+   * A method used to set all cells, walls and corners to the given default values.
+   * Only the first two rows are written value by value, the others are copied.
+   *
+   * @param defaultCell   value that all cells will be set to
+   * @param defaultWall   value that all walls will be set to
+   * @param defaultCorner value that all corners will be set to
+   */
+  public void fill(byte defaultCell, byte defaultWall, byte defaultCorner) {
+    for (int col = 0; col < cols; col++) {
+      gridArray[col] = (col%2 == 0 ? defaultCorner : defaultWall);
+      gridArray[cols+col] = (col%2 == 0 ? defaultWall : defaultCell);
+    }
+    for (int row = 2; row < rows; row++) {
+      System.arraycopy(gridArray, (row%2)*cols, gridArray, row*cols, cols);
+    }
+  }
+
+  /**
+   * A method used to set the value of a cell at the given coordinates to the given value.
+   *
+   * @param x     x coordinate of the cell
+   * @param y     y coordinate of the cell
+   * @param value value that the cell will be set to
+   */
+  public void set(int x, int y, byte value) {
+    gridArray[cellIndex(x, y)] = value;
+  }
+
+  /**
+   * Returns the cell value of the given coordinates.
+   *
+   * @param x x coordinate of cell
+   * @param y y coordinate of cell
+   * @return  value of the cell
+   */
+  public byte getByte(int x, int y) {
+    return gridArray[cellIndex(x, y)];
+  }
+
+  /**
+   * A method used to set the value of a wall relative to the cell at the given coordinates to the given value.
+   *
+   * @param x         x coordinate of the cell
+   * @param y         y coordinate of the cell
+   * @param direction direction of the wall relative to the cell
+   * @param value     value that the wall will be set to
+   */
+  public void setWall(int x, int y, Direction direction, byte value) {
+    gridArray[wallIndex(x, y, direction)] = value;
+  }
+
+  /**
+   * A method used to set all values of the walls of the cell at the given coordinates to the given value.
+   *
+   * @param x           x coordinate of the cell
+   * @param y           y coordinate of the cell
+   * @param defaultWall value that the walls will be set to
+   */
+  public void setWalls(int x, int y, byte defaultWall) {
+    setWall(x, y, Direction.UP, defaultWall);
+    setWall(x, y, Direction.DOWN, defaultWall);
+    setWall(x, y, Direction.LEFT, defaultWall);
+    setWall(x, y, Direction.RIGHT, defaultWall);
+  }
+
+  /**
+   * A method used to get the wall in the given direction relative to the cell at the given coordinates.
+   *
+   * @param x         x coordinate of the cell
+   * @param y         y coordinate of the cell
+   * @param direction direction of the wall relative to cell
+   * @return          value of the wall in the direction relative to the cell
+   */
+  public byte getWall(int x, int y, Direction direction) {
+    return gridArray[wallIndex(x, y, direction)];
+  }
+
+  /**
+   * A method used to set the border of the grid to the given value.
+   * The border are all the walls that are only adjacent to one cell.
+   *
+   * @param defaultWall value that the walls will be set to
+   */
+  public void setBorder(byte defaultWall) {
+    for (int x = 0; x < width; x++) {
+      setWall(x, 0, Direction.UP, defaultWall);
+      setWall(x, height-1, Direction.DOWN, defaultWall);
+    }
+    for (int y = 0; y < height; y++) {
+      setWall(0, y, Direction.LEFT, defaultWall);
+      setWall(width-1, y, Direction.RIGHT, defaultWall);
+    }
+  }
+
+  /**
+   * A method used to get the value of the corner in the directions relative to the cell
+   * at the given coordinates.
+   *
+   * @param x           x coordinate of the cell
+   * @param y           y coordinate of the cell
+   * @param vDirection  vertical direction from cell to corner
+   * @param hDirection  horizontal direciton from cell to corner
+   * @return            value of the corner in the directions relative to the cell
+   */
+  public byte getCorner(int x, int y, Direction vDirection, Direction hDirection) {
+    return gridArray[cornerIndex(x, y, vDirection, hDirection)];
+  }
+
+  /**
+   * A method used to get the value of the corner at the given coordinates.
+   * Corner coordinates are equal to their lower-right cells coordinates.
+   *
+   * @param x x coordinate of the corner
+   * @param y y coordinate of the corner
+   * @return  value of the corner
+   */
+  public byte getCorner(int x, int y) {
+    return gridArray[cornerIndex(x, y)];
+  }
+
+  /**
+   * A method used to set the value of the corner in the given directions relative to the cell at the
+   * given coordinates.
+   *
+   * @param x           x coordinate of the cell
+   * @param y           y coordinate of the cell
+   * @param vDirection  vertical direction from cell to corner
+   * @param hDirection  horizontal direction from cell to corner
+   * @param value       value that the corner will be set to
+   */
+  public void setCorner(int x, int y, Direction vDirection, Direction hDirection, byte value) {
+    gridArray[cornerIndex(x, y, vDirection, hDirection)] = value;
+  }
+
+  /**
+   * A method used to set the value of the corner at the given coordinates.
+   * Corner coordinates are equal to their lower-right cells coordinates.
+   *
+   * @param x     x coordinate of the corner
+   * @param y     y coordinate of the corner
+   * @param value the value the corner will be set to
+   */
+  public void setCorner(int x, int y, byte value) {
+    gridArray[cornerIndex(x, y)] = value;
+  }
+
+  /**
+   * A method used to get the value of the cell in the given directions relative to the corner
+   * at the given coordinates.
+   * Corner coordinates are equal to their lower-right cells coordinates.
+   *
+   * @param x           x coordinate of the corner
+   * @param y           y coordinate of the corner
+   * @param vDirection  vertical direction from corner to cell
+   * @param hDirection  horizontal direction from corner to cell
+   * @return            value of the cell
+   */
+  public byte getFromCorner(int x, int y, Direction vDirection, Direction hDirection) {
+    return gridArray[fromCornerIndex(x, y, vDirection, hDirection)];
+  }
+
+  /**
+   * A method used to get the value of the wall in the given direction relative to the corner
+   * at the given coordinates.
+   * Corner coordinates are equal to their lower-right cells coordinates.
+   *
+   * @param x         x coordinate of the corner
+   * @param y         y coordinate of the corner
+   * @param direction direction from corner to wall
+   * @return          value of the wall
+   */
+  public byte getWallFromCorner(int x, int y, Direction direction) {
+    return gridArray[wallFromCornerIndex(x, y, direction)];
+  }
+
+  /**
+   * A method used to set the value of the wall in the given direction relative to the corner
+   * at the given coordinates.
+   * Corner coordinates are equal to their lower-right cells coordinates.
+   *
+   * @param x         x coordinate of the corner
+   * @param y         y coordinate of the corner
+   * @param direction direction from corner to wall
+   * @param value     value that the wall will be set to
+   */
+  public void setWallFromCorner(int x, int y, Direction direction, byte value) {
+    gridArray[wallFromCornerIndex(x, y, direction)] = value;
+  }
+
+  /**
+   * Returns the flat array backing the grid. Changes to the array are visible in the grid.
+   *
+   * @return  byte[] gridArray
+   */
+  public byte[] toArray() {
+    return gridArray;
+  }
+}
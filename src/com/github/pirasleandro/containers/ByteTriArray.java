@@ -0,0 +1,147 @@
+package com.github.pirasleandro.containers;
+
+import java.util.Arrays;
+
+/**
+ * @author Leandro Piras
+ * @version 1.1
+ *
+ * Primitive sibling of {@link com.github.pirasleandro.containers.TriArray} storing one byte per slot
+ * in one packed byte[] of size*size values instead of boxed values.
+ *
+ * @see com.github.pirasleandro.containers.AbstractTriArray
+ */
+public class ByteTriArray extends AbstractTriArray {
+  /**
+   * byte[] where all values will be stored in.
+   */
+  protected final byte[] array;
+
+  /**
+   * A basic constructor. All values will be 0.
+   *
+   * @param size  size of the triangle
+   *
+   * @throws IllegalArgumentException if the size is smaller than 1
+   */
+  public ByteTriArray(int size) {
+    super(size);
+    this.array = new byte[size*size];
+  }
+
+  /**
+   * A constructor that additionally sets all slots to the given default value.
+   *
+   * @param size          size of the triangle
+   * @param defaultValue  value that all slots will be set to
+   *
+   * @see com.github.pirasleandro.containers.ByteTriArray#fill(byte)
+   */
+  public ByteTriArray(int size, byte defaultValue) {
+    this(size);
+    fill(defaultValue);
+  }
+
+  /**
+   * A constructor copying all values of the given ByteTriArray.
+   *
+   * @param triArray  ByteTriArray to be copied
+   */
+  public ByteTriArray(ByteTriArray triArray) {
+    this(triArray.size);
+    copyFrom(triArray);
+  }
+
+  /**
+   * A method used to set all slots to the given default value.
+   *
+   * @param defaultValue  value that all slots will be set to
+   */
+  public void fill(byte defaultValue) {
+    Arrays.fill(array, defaultValue);
+  }
+
+  /**
+   * A method used to set all slots of the given row to the given value.
+   *
+   * @param y     y coordinate of the row
+   * @param value value that the slots will be set to
+   */
+  public void fillRow(int y, byte value) {
+    int from = rowStart(y);
+    Arrays.fill(array, from, from+rowLength(y), value);
+  }
+
+  /**
+   * A method used to copy all values of the given ByteTriArray of the same size into this.
+   *
+   * @param triArray  ByteTriArray to be copied
+   *
+   * @throws IllegalArgumentException if the sizes are not equal
+   */
+  public void copyFrom(ByteTriArray triArray) {
+    checkSize(triArray);
+    System.arraycopy(triArray.array, 0, array, 0, array.length);
+  }
+
+  /**
+   * Returns the value of the given slot of the cell at the given coordinates.
+   *
+   * @param x     x coordinate of the cell
+   * @param y     y coordinate of the cell
+   * @param slot  slot of the cell
+   * @return      value of the slot
+   *
+   * @throws IndexOutOfBoundsException if the coordinates are not valid
+   */
+  public byte getByte(int x, int y, Slot slot) {
+    return array[index(x, y, slot)];
+  }
+
+  /**
+   * Returns the value of the slot at the given index.
+   *
+   * @param index index of the slot
+   * @return      value of the slot
+   *
+   * @see com.github.pirasleandro.containers.AbstractTriArray#index(int, int, Slot)
+   */
+  public byte getByte(int index) {
+    return array[index];
+  }
+
+  /**
+   * A method used to set the value of the given slot of the cell at the given coordinates.
+   *
+   * @param x     x coordinate of the cell
+   * @param y     y coordinate of the cell
+   * @param slot  slot of the cell
+   * @param value value the slot will be set to
+   *
+   * @throws IndexOutOfBoundsException if the coordinates are not valid
+   */
+  public void set(int x, int y, Slot slot, byte value) {
+    array[index(x, y, slot)] = value;
+  }
+
+  /**
+   * A method used to set the value of the slot at the given index.
+   *
+   * @param index index of the slot
+   * @param value value the slot will be set to
+   *
+   * @see com.github.pirasleandro.containers.AbstractTriArray#index(int, int, Slot)
+   */
+  public void set(int index, byte value) {
+    array[index] = value;
+  }
+
+  /**
+   * Returns the packed array backing the ByteTriArray. Changes to the array are visible in the ByteTriArray.
+   *
+   * @return  byte[] array
+   */
+  public byte[] toArray() {
+    return array;
+  }
+}
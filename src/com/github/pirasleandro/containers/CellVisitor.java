@@ -0,0 +1,24 @@
+package com.github.pirasleandro.containers;
+
+/**
+ * @author Leandro Piras
+ * @version 1.1
+ * 
+ * Functional interface used to visit the cells or corners of a grid together with their coordinates,
+ * without creating a Point per value.
+ * 
+ * @see com.github.pirasleandro.containers.Grid#forEachCell(CellVisitor)
+ * 
+ * @param V type of the visited values
+ */
+@FunctionalInterface
+public interface CellVisitor<V> {
+  /**
+   * A method called once for every visited value.
+   * 
+   * @param x     x coordinate of the value
+   * @param y     y coordinate of the value
+   * @param value the value
+   */
+  void visit(int x, int y, V value);
+}
@@ -0,0 +1,301 @@
+package com.github.pirasleandro.containers;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Objects;
+import java.util.function.UnaryOperator;
+
+/**
+ * @author Leandro Piras
+ * @version 1.1
+ *
+ * Extends AdvGrid to allow several threads to read and change the grid at the same time without locks.
+ * Every cell, wall and corner is read and written with volatile semantics through a VarHandle, so a thread
+ * that reads a value sees everything the writing thread did before writing it.
+ * Single values can be changed atomically with the compareAndSet and getAndUpdate methods, which compare
+ * values by reference like {@link java.util.concurrent.atomic.AtomicReference}.
+ * Operations on more than one value, like {@link #fill(Object, Object, Object)} or the region operations,
+ * are not atomic as a whole.
+ * Writes are not counted, so {@link #getModCount()} is not supported and caches that rely on it, like a
+ * {@link com.github.pirasleandro.containers.RegionIndex}, can't be built on top of a ConcurrentGrid.
+ *
+ * @see com.github.pirasleandro.containers.AdvGrid
+ *
+ * @param T type of the main storage values
+ * @param W type of the wall values
+ * @param C type of the corner values
+ */
+public class ConcurrentGrid<T,W,C> extends AdvGrid<T,W,C> {
+  private static final VarHandle SLOT = MethodHandles.arrayElementVarHandle(Object[].class);
+  // rows of the gridArray, never replaced so they can be shared between threads
+  private final Object[][] rows;
+
+  /**
+   * A basic constructor. All values will be null.
+   *
+   * @param width   width of the grid
+   * @param height  height of the grid
+   */
+  public ConcurrentGrid(int width, int height) {
+    super(width, height, null);
+    this.rows = new Object[convert(height)][convert(width)];
+  }
+
+  /**
+   * A constructor that additionally sets all values of the grid to the given default values.
+   *
+   * @param width         width of the grid
+   * @param height        height of the grid
+   * @param defaultCell   value that all cells will be set to
+   * @param defaultWall   value that all walls will be set to
+   * @param defaultCorner value that all corners will be set to
+   *
+   * @see com.github.pirasleandro.containers.AdvGrid#fill(Object, Object, Object)
+   */
+  public ConcurrentGrid(int width, int height, T defaultCell, W defaultWall, C defaultCorner) {
+    this(width, height);
+    fill(defaultCell, defaultWall, defaultCorner);
+  }
+
+  /**
+   * Returns the cell value of the given coordinates.
+   *
+   * @param x x coordinate of cell
+   * @param y y coordinate of cell
+   * @return  value of the cell
+   */
+  @Override
+  @SuppressWarnings("unchecked")
+  public T get(int x, int y) {
+    return (T) super.get(x, y);
+  }
+
+  /**
+   * A method used to get the wall in the given direction relative to the cell at the given coordinates.
+   *
+   * @param x         x coordinate of the cell
+   * @param y         y coordinate of the cell
+   * @param direction direction of the wall relative to cell
+   * @return          value of the wall in the direction relative to the cell
+   */
+  @Override
+  @SuppressWarnings("unchecked")
+  public W getWall(int x, int y, Direction direction) {
+    return (W) super.getWall(x, y, direction);
+  }
+
+  /**
+   * A method used to get the value of the corner at the given coordinates.
+   * Corner coordinates are equal to their lower-right cells coordinates.
+   *
+   * @param x x coordinate of the corner
+   * @param y y coordinate of the corner
+   * @return  value of the corner
+   */
+  @Override
+  @SuppressWarnings("unchecked")
+  public C getCorner(int x, int y) {
+    return (C) super.getCorner(x, y);
+  }
+
+  /**
+   * A method used to atomically set the cell at the given coordinates to the given value
+   * if it currently is the expected value.
+   *
+   * @param x         x coordinate of the cell
+   * @param y         y coordinate of the cell
+   * @param expected  expected current value, compared by reference
+   * @param value     new value
+   * @return          true if the cell was set, false if it held another value
+   *
+   * @throws IndexOutOfBoundsException if the coordinates are not valid
+   */
+  public boolean compareAndSetCell(int x, int y, T expected, T value) {
+    checkCell(x, y);
+    return SLOT.compareAndSet(rows[convert(y)], convert(x), expected, value);
+  }
+
+  /**
+   * A method used to atomically set the wall in the given direction relative to the cell at the given
+   * coordinates to the given value if it currently is the expected value.
+   *
+   * @param x         x coordinate of the cell
+   * @param y         y coordinate of the cell
+   * @param direction direction of the wall relative to the cell
+   * @param expected  expected current value, compared by reference
+   * @param value     new value
+   * @return          true if the wall was set, false if it held another value
+   *
+   * @throws IndexOutOfBoundsException if the coordinates are not valid
+   */
+  public boolean compareAndSetWall(int x, int y, Direction direction, W expected, W value) {
+    checkCell(x, y);
+    return SLOT.compareAndSet(rows[wallY(y, direction)], wallX(x, direction), expected, value);
+  }
+
+  /**
+   * A method used to atomically set the corner at the given coordinates to the given value
+   * if it currently is the expected value.
+   * Corner coordinates are equal to their lower-right cells coordinates.
+   *
+   * @param x         x coordinate of the corner
+   * @param y         y coordinate of the corner
+   * @param expected  expected current value, compared by reference
+   * @param value     new value
+   * @return          true if the corner was set, false if it held another value
+   *
+   * @throws IndexOutOfBoundsException if the coordinates are not valid
+   */
+  public boolean compareAndSetCorner(int x, int y, C expected, C value) {
+    Objects.checkIndex(x, width+1);
+    Objects.checkIndex(y, height+1);
+    return SLOT.compareAndSet(rows[y*2], x*2, expected, value);
+  }
+
+  /**
+   * A method used to atomically update the cell at the given coordinates with the given function.
+   * The function may be called more than once if other threads change the cell at the same time,
+   * so it should not have side effects.
+   *
+   * @param x       x coordinate of the cell
+   * @param y       y coordinate of the cell
+   * @param update  function calculating the new value from the current value
+   * @return        previous value of the cell
+   *
+   * @throws IndexOutOfBoundsException if the coordinates are not valid
+   */
+  public T getAndUpdate(int x, int y, UnaryOperator<T> update) {
+    checkCell(x, y);
+    return getAndUpdateSlot(convert(x), convert(y), update);
+  }
+
+  /**
+   * A method used to atomically update the wall in the given direction relative to the cell at the given
+   * coordinates with the given function. The function may be called more than once.
+   *
+   * @param x         x coordinate of the cell
+   * @param y         y coordinate of the cell
+   * @param direction direction of the wall relative to the cell
+   * @param update    function calculating the new value from the current value
+   * @return          previous value of the wall
+   *
+   * @throws IndexOutOfBoundsException if the coordinates are not valid
+   *
+   * @see com.github.pirasleandro.containers.ConcurrentGrid#getAndUpdate(int, int, UnaryOperator)
+   */
+  public W getAndUpdateWall(int x, int y, Direction direction, UnaryOperator<W> update) {
+    checkCell(x, y);
+    return getAndUpdateSlot(wallX(x, direction), wallY(y, direction), update);
+  }
+
+  /**
+   * A method used to atomically update the corner at the given coordinates with the given function.
+   * The function may be called more than once.
+   * Corner coordinates are equal to their lower-right cells coordinates.
+   *
+   * @param x       x coordinate of the corner
+   * @param y       y coordinate of the corner
+   * @param update  function calculating the new value from the current value
+   * @return        previous value of the corner
+   *
+   * @throws IndexOutOfBoundsException if the coordinates are not valid
+   *
+   * @see com.github.pirasleandro.containers.ConcurrentGrid#getAndUpdate(int, int, UnaryOperator)
+   */
+  public C getAndUpdateCorner(int x, int y, UnaryOperator<C> update) {
+    Objects.checkIndex(x, width+1);
+    Objects.checkIndex(y, height+1);
+    return getAndUpdateSlot(x*2, y*2, update);
+  }
+
+  @SuppressWarnings("unchecked")
+  private <V> V getAndUpdateSlot(int x, int y, UnaryOperator<V> update) {
+    Object[] row = rows[y];
+    while (true) {
+      V previous = (V) SLOT.getVolatile(row, x);
+      if (SLOT.compareAndSet(row, x, previous, update.apply(previous))) {
+        return previous;
+      }
+    }
+  }
+
+  /**
+   * Changes of a ConcurrentGrid can't be tracked, since the tracking is not thread-safe.
+   *
+   * @param enabled must be false
+   *
+   * @throws UnsupportedOperationException if enabled is true
+   */
+  @Override
+  public void trackChanges(boolean enabled) {
+    if (enabled) {
+      throw new UnsupportedOperationException("changes of a ConcurrentGrid can't be tracked");
+    }
+    super.trackChanges(false);
+  }
+
+  /**
+   * The hash of a ConcurrentGrid can't be maintained, since updating it is not thread-safe.
+   *
+   * @param enabled must be false
+   *
+   * @throws UnsupportedOperationException if enabled is true
+   */
+  @Override
+  public void trackHash(boolean enabled) {
+    if (enabled) {
+      throw new UnsupportedOperationException("the hash of a ConcurrentGrid can't be maintained");
+    }
+    super.trackHash(false);
+  }
+
+  /**
+   * Writes of a ConcurrentGrid are not counted, since the counter is not thread-safe.
+   *
+   * @return  never returns normally
+   *
+   * @throws UnsupportedOperationException always
+   */
+  @Override
+  public int getModCount() {
+    throw new UnsupportedOperationException("writes of a ConcurrentGrid aren't counted");
+  }
+
+  // changes are neither tracked nor counted, so there is nothing shared to update on a write
+  @Override
+  protected void markDirty(int x, int y) {}
+
+  @Override
+  protected void markDirty(int y, int fromX, int toX) {}
+
+  @Override
+  protected Object load(int x, int y) {
+    return SLOT.getVolatile(rows[y], x);
+  }
+
+  @Override
+  protected void store(int x, int y, Object value) {
+    SLOT.setVolatile(rows[y], x, value);
+  }
+
+  private void checkCell(int x, int y) {
+    Objects.checkIndex(x, width);
+    Objects.checkIndex(y, height);
+  }
+
+  private static int wallX(int x, Direction direction) {
+    switch (direction) {
+      case LEFT: return convert(x)-1;
+      case RIGHT: return convert(x)+1;
+      default: return convert(x);
+    }
+  }
+
+  private static int wallY(int y, Direction direction) {
+    switch (direction) {
+      case UP: return convert(y)-1;
+      case DOWN: return convert(y)+1;
+      default: return convert(y);
+    }
+  }
+}
@@ -0,0 +1,336 @@
+package com.github.pirasleandro.containers;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * @author Leandro Piras
+ * @version 1.1
+ *
+ * Extends AdvGrid for grids that only hold a few distinct values, like enum constants or interned Objects.
+ * Every distinct value is stored once in a dictionary of the grid, the gridArray only holds the code of the
+ * value in its dictionary, packed into 1, 2, 4 or 8 bits per Object. Reads decode the code again.
+ * The codes start with 1 bit and are widened once the dictionary grows, a grid may hold up to
+ * {@value #MAX_VALUES} distinct values. Values are compared with equals, so mutable values must not be
+ * changed while they are in the grid.
+ * Every row of the gridArray starts at a new long, which allows {@link #countCells(Object)} to compare whole
+ * longs of codes at once instead of decoding every cell.
+ *
+ * @see com.github.pirasleandro.containers.AdvGrid
+ *
+ * @param T type of the main storage values
+ * @param W type of the wall values
+ * @param C type of the corner values
+ */
+public class DictionaryGrid<T,W,C> extends AdvGrid<T,W,C> {
+  /**
+   * Maximum amount of distinct values of a grid.
+   */
+  public static final int MAX_VALUES = 256;
+  // distinct values, the index of a value is its code
+  private final Object[] dictionary = new Object[MAX_VALUES];
+  private final Map<Object,Integer> codes = new HashMap<>();
+  private int dictionarySize;
+  // bits per code, always 1, 2, 4 or 8 so codes never cross two longs
+  private int bits;
+  private int wordsPerRow;
+  private long[] words;
+
+  /**
+   * A basic constructor. All values will be null.
+   *
+   * @param width   width of the grid
+   * @param height  height of the grid
+   *
+   * @throws IllegalArgumentException if the width or height is smaller than 1
+   */
+  public DictionaryGrid(int width, int height) {
+    super(width, height, null);
+    if (width < 1 || height < 1) {
+      throw new IllegalArgumentException("cannot invoke a grid of size " + width + "/" + height + ". Must be minimum 1.");
+    }
+    reset(1);
+  }
+
+  /**
+   * A constructor that additionally sets all values of the grid to the given default values.
+   *
+   * @param width         width of the grid
+   * @param height        height of the grid
+   * @param defaultCell   value that all cells will be set to
+   * @param defaultWall   value that all walls will be set to
+   * @param defaultCorner value that all corners will be set to
+   *
+   * @see com.github.pirasleandro.containers.DictionaryGrid#fill(Object, Object, Object)
+   */
+  public DictionaryGrid(int width, int height, T defaultCell, W defaultWall, C defaultCorner) {
+    this(width, height);
+    fill(defaultCell, defaultWall, defaultCorner);
+  }
+
+  /**
+   * A method used to set all values of the grid to the given default values.
+   * The dictionary is cleared, so values that are not used anymore are released.
+   *
+   * @param defaultCell   value that all cells will be set to
+   * @param defaultWall   value that all walls will be set to
+   * @param defaultCorner value that all corners will be set to
+   */
+  @Override
+  public void fill(T defaultCell, W defaultWall, C defaultCorner) {
+    reset(1);
+    int corner = encode(defaultCorner);
+    int wall = encode(defaultWall);
+    int cell = encode(defaultCell);
+    int cols = convert(width);
+    long[] evenRow = new long[wordsPerRow];
+    long[] oddRow = new long[wordsPerRow];
+    for (int x = 0; x < cols; x++) {
+      int bit = x*bits;
+      evenRow[bit >>> 6] |= (long) (x%2 == 0 ? corner : wall) << bit;
+      oddRow[bit >>> 6] |= (long) (x%2 == 0 ? wall : cell) << bit;
+    }
+    int rows = convert(height);
+    for (int y = 0; y < rows; y++) {
+      System.arraycopy(y%2 == 0 ? evenRow : oddRow, 0, words, y*wordsPerRow, wordsPerRow);
+    }
+    allChanged();
+  }
+
+  /**
+   * Returns the cell value of the given coordinates.
+   *
+   * @param x x coordinate of cell
+   * @param y y coordinate of cell
+   * @return  value of the cell
+   */
+  @Override
+  @SuppressWarnings("unchecked")
+  public T get(int x, int y) {
+    return (T) super.get(x, y);
+  }
+
+  /**
+   * A method used to get the wall in the given direction relative to the cell at the given coordinates.
+   *
+   * @param x         x coordinate of the cell
+   * @param y         y coordinate of the cell
+   * @param direction direction of the wall relative to cell
+   * @return          value of the wall in the direction relative to the cell
+   */
+  @Override
+  @SuppressWarnings("unchecked")
+  public W getWall(int x, int y, Direction direction) {
+    return (W) super.getWall(x, y, direction);
+  }
+
+  /**
+   * A method used to get the value of the corner at the given coordinates.
+   * Corner coordinates are equal to their lower-right cells coordinates.
+   *
+   * @param x x coordinate of the corner
+   * @param y y coordinate of the corner
+   * @return  value of the corner
+   */
+  @Override
+  @SuppressWarnings("unchecked")
+  public C getCorner(int x, int y) {
+    return (C) super.getCorner(x, y);
+  }
+
+  @Override
+  protected Object load(int x, int y) {
+    checkIndex(x, y);
+    return dictionary[code(x, y)];
+  }
+
+  /**
+   * A method used to store the code of the given value, adding the value to the dictionary if it's new.
+   *
+   * @throws IllegalStateException if the value is new and the dictionary is full
+   */
+  @Override
+  protected void store(int x, int y, Object value) {
+    checkIndex(x, y);
+    int code = encode(value);
+    int bit = x*bits;
+    int index = (y*wordsPerRow) + (bit >>> 6);
+    long mask = ((1L << bits) - 1) << bit;
+    words[index] = (words[index] & ~mask) | ((long) code << bit);
+  }
+
+  /**
+   * A method used to count the cells with the given value. The codes of a row are compared a whole long
+   * at a time, without decoding them.
+   *
+   * @param value value to be counted
+   * @return      amount of cells with the value
+   */
+  public int countCells(T value) {
+    Integer code = codes.get(value);
+    if (code == null) {
+      return 0;
+    }
+    int count = 0;
+    for (int y = 0; y < height; y++) {
+      count += countCodes(code, y, 0, width, 1);
+    }
+    return count;
+  }
+
+  /**
+   * A method used to count the cells with the given value in the given row, from the first x coordinate
+   * inclusive to the second x coordinate exclusive. With a step of 2 only every other cell is counted,
+   * starting with the first one. Like {@link #countCells(Object)} whole longs of codes are compared at once.
+   *
+   * @param value value to be counted
+   * @param y     y coordinate of the row
+   * @param fromX x coordinate of the first cell
+   * @param toX   x coordinate after the last cell
+   * @param step  1 to count every cell, 2 to count every other cell
+   * @return      amount of counted cells with the value
+   *
+   * @throws IndexOutOfBoundsException if the cells are not inside of the grid
+   * @throws IllegalArgumentException if the step is neither 1 nor 2
+   */
+  public int countCells(T value, int y, int fromX, int toX, int step) {
+    Objects.checkIndex(y, height);
+    Objects.checkFromToIndex(fromX, toX, width);
+    if (step != 1 && step != 2) {
+      throw new IllegalArgumentException("cannot count every " + step + ". cell. Must be 1 or 2.");
+    }
+    Integer code = codes.get(value);
+    return (code == null ? 0 : countCodes(code, y, fromX, toX, step));
+  }
+
+  /**
+   * A method used to count the given code in every step-th cell of the given row range.
+   */
+  private int countCodes(int code, int y, int fromX, int toX, int step) {
+    if (fromX == toX) {
+      return 0;
+    }
+    long ones = Long.divideUnsigned(-1L, (1L << bits) - 1);
+    long pattern = ones * code;
+    // lowest bits of the counted codes in a long, cells are at odd x coordinates and every step-th cell
+    // repeats after 2*step codes, which always divides the codes per long
+    int period = 2*step;
+    long counted = Long.divideUnsigned(-1L, (1L << (period*bits)) - 1) << ((convert(fromX) % period)*bits);
+    int fromBit = convert(fromX)*bits;
+    int toBit = convert(toX-1)*bits + bits;
+    int offset = convert(y)*wordsPerRow;
+    int count = 0;
+    for (int i = fromBit >>> 6; i <= (toBit-1) >>> 6; i++) {
+      long equal = ~(words[offset+i] ^ pattern);
+      for (int shift = 1; shift < bits; shift <<= 1) {
+        equal &= equal >>> shift;
+      }
+      equal &= counted;
+      if (i == fromBit >>> 6) {
+        equal &= -1L << fromBit;
+      }
+      if (i == (toBit-1) >>> 6) {
+        equal &= -1L >>> (63 - ((toBit-1) & 63));
+      }
+      count += Long.bitCount(equal);
+    }
+    return count;
+  }
+
+  /**
+   * getter
+   *
+   * @return  amount of distinct values in the dictionary
+   */
+  public int getDictionarySize() {
+    return dictionarySize;
+  }
+
+  /**
+   * getter
+   *
+   * @return  amount of bits used per code, 1, 2, 4 or 8
+   */
+  public int getBitsPerCode() {
+    return bits;
+  }
+
+  private int code(int x, int y) {
+    int bit = x*bits;
+    return (int) ((words[(y*wordsPerRow) + (bit >>> 6)] >>> bit) & ((1L << bits) - 1));
+  }
+
+  /**
+   * A method used to get the code of the given value, adding it to the dictionary and widening the
+   * codes if necessary.
+   *
+   * @param value value to be encoded
+   * @return      code of the value
+   *
+   * @throws IllegalStateException if the value is new and the dictionary is full
+   */
+  private int encode(Object value) {
+    Integer code = codes.get(value);
+    if (code != null) {
+      return code;
+    }
+    if (dictionarySize == MAX_VALUES) {
+      throw new IllegalStateException("a DictionaryGrid can't hold more than " + MAX_VALUES + " distinct values");
+    }
+    if (dictionarySize == (1 << bits)) {
+      widen();
+    }
+    dictionary[dictionarySize] = value;
+    codes.put(value, dictionarySize);
+    return dictionarySize++;
+  }
+
+  /**
+   * A method used to double the bits per code, copying all codes.
+   */
+  private void widen() {
+    int oldBits = bits;
+    int oldWordsPerRow = wordsPerRow;
+    long[] oldWords = words;
+    bits *= 2;
+    wordsPerRow = wordsPerRow(bits);
+    words = new long[convert(height)*wordsPerRow];
+    int cols = convert(width);
+    int rows = convert(height);
+    long mask = (1L << oldBits) - 1;
+    for (int y = 0; y < rows; y++) {
+      for (int x = 0; x < cols; x++) {
+        int oldBit = x*oldBits;
+        long code = (oldWords[(y*oldWordsPerRow) + (oldBit >>> 6)] >>> oldBit) & mask;
+        int bit = x*bits;
+        words[(y*wordsPerRow) + (bit >>> 6)] |= code << bit;
+      }
+    }
+  }
+
+  /**
+   * A method used to clear the dictionary and all codes. Every Object will be null afterwards.
+   *
+   * @param bits  bits per code
+   */
+  private void reset(int bits) {
+    Arrays.fill(dictionary, null);
+    codes.clear();
+    codes.put(null, 0);
+    dictionarySize = 1;
+    this.bits = bits;
+    this.wordsPerRow = wordsPerRow(bits);
+    this.words = new long[convert(height)*wordsPerRow];
+  }
+
+  private int wordsPerRow(int bits) {
+    return (int) ((((long) convert(width)*bits)+63) >>> 6);
+  }
+
+  private void checkIndex(int x, int y) {
+    Objects.checkIndex(x, convert(width));
+    Objects.checkIndex(y, convert(height));
+  }
+}
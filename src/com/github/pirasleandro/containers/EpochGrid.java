@@ -0,0 +1,181 @@
+package com.github.pirasleandro.containers;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * @author Leandro Piras
+ * @version 1.1
+ *
+ * Extends AdvGrid to reset the whole grid in O(1). Every Object of the gridArray carries the epoch it was
+ * written in, {@link #reset(Object, Object, Object)} only starts a new epoch, and Objects written in an
+ * older epoch read as the default value of the current one. A reset only takes O(n) if the hash is
+ * maintained or changes are tracked.
+ * Values written before a reset stay referenced until their Object is written again, or until the epoch
+ * counter has gone through all 2^32 int values, after about 4.29 billion resets, and all stamps are
+ * cleared once.
+ *
+ * @see com.github.pirasleandro.containers.AdvGrid
+ *
+ * @param T type of the main storage values
+ * @param W type of the wall values
+ * @param C type of the corner values
+ */
+public class EpochGrid<T,W,C> extends AdvGrid<T,W,C> {
+  // values of the gridArray in row-major order, only valid if the stamp is the current epoch
+  private final Object[] values;
+  private final int[] stamps;
+  private int epoch = 1;
+  private T defaultCell;
+  private W defaultWall;
+  private C defaultCorner;
+
+  /**
+   * A basic constructor. All values will be null.
+   *
+   * @param width   width of the grid
+   * @param height  height of the grid
+   *
+   * @throws IllegalArgumentException if the width or height is smaller than 1 or the grid is too big for an array
+   */
+  public EpochGrid(int width, int height) {
+    super(width, height, null);
+    if (width < 1 || height < 1) {
+      throw new IllegalArgumentException("cannot invoke a grid of size " + width + "/" + height + ". Must be minimum 1.");
+    }
+    long length = (long) convert(width)*convert(height);
+    if (length > Integer.MAX_VALUE - 8) {
+      throw new IllegalArgumentException("a grid of size " + width + "/" + height + " does not fit into an array.");
+    }
+    this.values = new Object[(int) length];
+    this.stamps = new int[(int) length];
+  }
+
+  /**
+   * A constructor that additionally sets all values of the grid to the given default values.
+   *
+   * @param width         width of the grid
+   * @param height        height of the grid
+   * @param defaultCell   value that all cells will be set to
+   * @param defaultWall   value that all walls will be set to
+   * @param defaultCorner value that all corners will be set to
+   *
+   * @see com.github.pirasleandro.containers.EpochGrid#reset(Object, Object, Object)
+   */
+  public EpochGrid(int width, int height, T defaultCell, W defaultWall, C defaultCorner) {
+    this(width, height);
+    reset(defaultCell, defaultWall, defaultCorner);
+  }
+
+  /**
+   * A method used to set all values of the grid to the given default values.
+   * Only a new epoch is started, all Objects written before read as the new default values.
+   * This takes O(1), unless the hash is maintained or changes are tracked. Then the hash is calculated
+   * again and every Object is marked as written, which both take O(n).
+   *
+   * @param defaultCell   value that all cells will be set to
+   * @param defaultWall   value that all walls will be set to
+   * @param defaultCorner value that all corners will be set to
+   */
+  public void reset(T defaultCell, W defaultWall, C defaultCorner) {
+    this.defaultCell = defaultCell;
+    this.defaultWall = defaultWall;
+    this.defaultCorner = defaultCorner;
+    if (++epoch == 0) {
+      Arrays.fill(stamps, 0);
+      Arrays.fill(values, null);
+      epoch = 1;
+    }
+    allChanged();
+  }
+
+  /**
+   * A method used to set all values of the grid to null, in O(1) like
+   * {@link #reset(Object, Object, Object)}.
+   *
+   * @see com.github.pirasleandro.containers.EpochGrid#reset(Object, Object, Object)
+   */
+  public void clear() {
+    reset(null, null, null);
+  }
+
+  /**
+   * A method used to set all values of the grid to the given default values.
+   * Same as {@link #reset(Object, Object, Object)}.
+   *
+   * @param defaultCell   value that all cells will be set to
+   * @param defaultWall   value that all walls will be set to
+   * @param defaultCorner value that all corners will be set to
+   */
+  @Override
+  public void fill(T defaultCell, W defaultWall, C defaultCorner) {
+    reset(defaultCell, defaultWall, defaultCorner);
+  }
+
+  /**
+   * Returns the cell value of the given coordinates.
+   *
+   * @param x x coordinate of cell
+   * @param y y coordinate of cell
+   * @return  value of the cell
+   */
+  @Override
+  @SuppressWarnings("unchecked")
+  public T get(int x, int y) {
+    return (T) super.get(x, y);
+  }
+
+  /**
+   * A method used to get the wall in the given direction relative to the cell at the given coordinates.
+   *
+   * @param x         x coordinate of the cell
+   * @param y         y coordinate of the cell
+   * @param direction direction of the wall relative to cell
+   * @return          value of the wall in the direction relative to the cell
+   */
+  @Override
+  @SuppressWarnings("unchecked")
+  public W getWall(int x, int y, Direction direction) {
+    return (W) super.getWall(x, y, direction);
+  }
+
+  /**
+   * A method used to get the value of the corner at the given coordinates.
+   * Corner coordinates are equal to their lower-right cells coordinates.
+   *
+   * @param x x coordinate of the corner
+   * @param y y coordinate of the corner
+   * @return  value of the corner
+   */
+  @Override
+  @SuppressWarnings("unchecked")
+  public C getCorner(int x, int y) {
+    return (C) super.getCorner(x, y);
+  }
+
+  @Override
+  protected Object load(int x, int y) {
+    int index = index(x, y);
+    if (stamps[index] != epoch) {
+      if (y%2 == 1) {
+        return (x%2 == 1 ? defaultCell : defaultWall);
+      } else {
+        return (x%2 == 1 ? defaultWall : defaultCorner);
+      }
+    }
+    return values[index];
+  }
+
+  @Override
+  protected void store(int x, int y, Object value) {
+    int index = index(x, y);
+    values[index] = value;
+    stamps[index] = epoch;
+  }
+
+  private int index(int x, int y) {
+    Objects.checkIndex(x, convert(width));
+    Objects.checkIndex(y, convert(height));
+    return (y*convert(width))+x;
+  }
+}
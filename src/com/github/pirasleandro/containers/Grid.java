@@ -1,6 +1,13 @@
 package com.github.pirasleandro.containers;
 
 import java.awt.Point;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Objects;
+import java.util.function.IntConsumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * @author Leandro Piras
@@ -21,6 +28,27 @@ public class Grid<T, W> {
    * Object[][] where all values will be stored in.
    */
   protected Object[][] gridArray;
+  /**
+   * Kinds of Objects in the gridArray, used by {@link #fillLattice(int, int, int, int, Object[], int)}.
+   */
+  protected static final int CELLS = 1, WALLS = 2, CORNERS = 4;
+  // offsets of the neighbours, the first 4 right, down, left, up, the next 8 clockwise starting right
+  private static final int[] NEIGHBOUR_X = {1, 0, -1, 0, 1, 1, 0, -1, -1, -1, 0, 1};
+  private static final int[] NEIGHBOUR_Y = {0, 1, 0, -1, 0, 1, 1, 1, 0, -1, -1, -1};
+  // true if the outer gridArray is shared with a snapshot
+  private boolean sharedArray;
+  // true if this is a snapshot
+  private boolean readOnly;
+  // incremented by every snapshot, rows whose generation differs are shared with a snapshot
+  private int generation;
+  private int[] rowGenerations;
+  // gridArray indices of the Objects written since the last drain, null if changes are not tracked
+  private BitSet dirty;
+  // incremented on every write
+  private int modCount;
+  // true if the hash is maintained on every write
+  private boolean hashed;
+  private long hash;
 
   /**
    * Empty constructor. Private to prevent empty Grid objects.
@@ -36,9 +64,21 @@ public class Grid<T, W> {
    * @param height  height of grid
    */
   public Grid(int width, int height) {
+    this(width, height, new Object[convert(height)][convert(width)]);
+  }
+
+  /**
+   * A constructor used by subclasses that bring their own storage. Subclasses that don't use
+   * the gridArray pass null and override {@link #load(int, int)} and {@link #store(int, int, Object)}.
+   * 
+   * @param width     width of grid
+   * @param height    height of grid
+   * @param gridArray Object[][] where all values will be stored in, or null
+   */
+  protected Grid(int width, int height, Object[][] gridArray) {
     this.width = width;
     this.height = height;
-    this.gridArray = new Object[convert(height)][convert(width)];
+    this.gridArray = gridArray;
   }
 
   /**
@@ -64,12 +104,7 @@ public class Grid<T, W> {
    * @param defaultWall Object that all walls will be set to
    */
   public void fill(T defaultCell, W defaultWall) {
-    for (int y = 0; y < height; y++) {
-      for (int x = 0; x < width; x++) {
-        set(x, y, defaultCell);
-        setWalls(x, y, defaultWall);
-      }
-    }
+    fillRegion(0, 0, width, height, defaultCell, defaultWall);
   }
 
   /**
@@ -80,7 +115,7 @@ public class Grid<T, W> {
    * @param value value that the cell will be set to
    */
   public void set(int x, int y, T value) {
-    gridArray[convert(y)][convert(x)] = value;
+    setObject(convert(x), convert(y), value);
   }
 
   /**
@@ -105,10 +140,10 @@ public class Grid<T, W> {
    */
   public void setWall(int x, int y, Direction direction, W value) {
     switch (direction) {
-      case UP: gridArray[convert(y)-1][convert(x)] = value; break;
-      case DOWN: gridArray[convert(y)+1][convert(x)] = value; break;
-      case LEFT: gridArray[convert(y)][convert(x)-1] = value; break;
-      case RIGHT: gridArray[convert(y)][convert(x)+1] = value; break;
+      case UP: setObject(convert(x), convert(y)-1, value); break;
+      case DOWN: setObject(convert(x), convert(y)+1, value); break;
+      case LEFT: setObject(convert(x)-1, convert(y), value); break;
+      case RIGHT: setObject(convert(x)+1, convert(y), value); break;
       default: return;
     }
   }
@@ -180,6 +215,213 @@ public class Grid<T, W> {
     }
   }
 
+  /**
+   * A method used to set the cells and walls of the given region to the given values.
+   * The walls at the border of the region are set as well, corners are left untouched.
+   * 
+   * @param x             x coordinate of the upper left cell of the region
+   * @param y             y coordinate of the upper left cell of the region
+   * @param regionWidth   width of the region in cells
+   * @param regionHeight  height of the region in cells
+   * @param cell          value that the cells will be set to
+   * @param wall          value that the walls will be set to
+   * 
+   * @throws IndexOutOfBoundsException if the region is not inside of the grid
+   */
+  public void fillRegion(int x, int y, int regionWidth, int regionHeight, T cell, W wall) {
+    checkRegion(x, y, regionWidth, regionHeight);
+    fillLattice(x, y, regionWidth, regionHeight, new Object[] {null, wall, wall, cell}, CELLS | WALLS);
+  }
+
+  /**
+   * A method used to set the cells of the given region to the given value.
+   * 
+   * @param x             x coordinate of the upper left cell of the region
+   * @param y             y coordinate of the upper left cell of the region
+   * @param regionWidth   width of the region in cells
+   * @param regionHeight  height of the region in cells
+   * @param cell          value that the cells will be set to
+   * 
+   * @throws IndexOutOfBoundsException if the region is not inside of the grid
+   */
+  public void fillCells(int x, int y, int regionWidth, int regionHeight, T cell) {
+    checkRegion(x, y, regionWidth, regionHeight);
+    fillLattice(x, y, regionWidth, regionHeight, new Object[] {null, null, null, cell}, CELLS);
+  }
+
+  /**
+   * A method used to set the walls of the cells of the given region to the given value.
+   * The walls at the border of the region are set as well.
+   * 
+   * @param x             x coordinate of the upper left cell of the region
+   * @param y             y coordinate of the upper left cell of the region
+   * @param regionWidth   width of the region in cells
+   * @param regionHeight  height of the region in cells
+   * @param wall          value that the walls will be set to
+   * 
+   * @throws IndexOutOfBoundsException if the region is not inside of the grid
+   */
+  public void fillWalls(int x, int y, int regionWidth, int regionHeight, W wall) {
+    checkRegion(x, y, regionWidth, regionHeight);
+    fillLattice(x, y, regionWidth, regionHeight, new Object[] {null, wall, wall, null}, WALLS);
+  }
+
+  /**
+   * A method used to set all cells, walls and corners of the given region to null.
+   * The walls and corners at the border of the region are cleared as well.
+   * 
+   * @param x             x coordinate of the upper left cell of the region
+   * @param y             y coordinate of the upper left cell of the region
+   * @param regionWidth   width of the region in cells
+   * @param regionHeight  height of the region in cells
+   * 
+   * @throws IndexOutOfBoundsException if the region is not inside of the grid
+   */
+  public void clearRegion(int x, int y, int regionWidth, int regionHeight) {
+    checkRegion(x, y, regionWidth, regionHeight);
+    fillLattice(x, y, regionWidth, regionHeight, new Object[4], CELLS | WALLS | CORNERS);
+  }
+
+  /**
+   * A method used to copy a region of another grid into this grid. All cells, walls and corners
+   * of the region are copied, including the walls and corners at its border.
+   * The source may be this grid, overlapping regions are copied as if through a temporary copy.
+   * 
+   * @param source        grid the values are copied from
+   * @param sourceX       x coordinate of the upper left cell of the region in the source
+   * @param sourceY       y coordinate of the upper left cell of the region in the source
+   * @param x             x coordinate of the upper left cell of the region in this grid
+   * @param y             y coordinate of the upper left cell of the region in this grid
+   * @param regionWidth   width of the region in cells
+   * @param regionHeight  height of the region in cells
+   * 
+   * @throws IndexOutOfBoundsException if the region is not inside of both grids
+   */
+  public void copyRegion(Grid<? extends T, ? extends W> source, int sourceX, int sourceY, int x, int y, int regionWidth, int regionHeight) {
+    source.checkRegion(sourceX, sourceY, regionWidth, regionHeight);
+    checkRegion(x, y, regionWidth, regionHeight);
+    if (regionWidth == 0 || regionHeight == 0) {
+      return;
+    }
+    int length = (regionWidth*2)+1;
+    int rows = (regionHeight*2)+1;
+    // copy the rows bottom-up if they would otherwise overwrite rows that still have to be read
+    boolean reverse = (source == this && y > sourceY);
+    Object[] buffer = (gridArray != null && source.gridArray != null ? null : new Object[length]);
+    for (int i = 0; i < rows; i++) {
+      int row = (reverse ? rows-1-i : i);
+      int sourceRow = (sourceY*2)+row;
+      int targetRow = (y*2)+row;
+      if (buffer == null) {
+        hashRow(targetRow, x*2, (x*2)+length, 1);
+        System.arraycopy(source.gridArray[sourceRow], sourceX*2, writableRow(targetRow), x*2, length);
+        hashRow(targetRow, x*2, (x*2)+length, 1);
+        markDirty(targetRow, x*2, (x*2)+length);
+      } else {
+        for (int col = 0; col < length; col++) {
+          buffer[col] = source.getObject((sourceX*2)+col, sourceRow);
+        }
+        for (int col = 0; col < length; col++) {
+          setObject((x*2)+col, targetRow, buffer[col]);
+        }
+      }
+    }
+  }
+
+  /**
+   * A method used to copy a whole grid into this grid at the given offset.
+   * 
+   * @param source  grid the values are copied from
+   * @param x       x coordinate of the cell the upper left cell of the source is copied to
+   * @param y       y coordinate of the cell the upper left cell of the source is copied to
+   * 
+   * @throws IndexOutOfBoundsException if the source does not fit into this grid at the given offset
+   * 
+   * @see com.github.pirasleandro.containers.Grid#copyRegion(Grid, int, int, int, int, int, int)
+   */
+  public void blit(Grid<? extends T, ? extends W> source, int x, int y) {
+    copyRegion(source, 0, 0, x, y, source.width, source.height);
+  }
+
+  /**
+   * A method used to check that the given region is inside of the grid.
+   * 
+   * @param x             x coordinate of the upper left cell of the region
+   * @param y             y coordinate of the upper left cell of the region
+   * @param regionWidth   width of the region in cells
+   * @param regionHeight  height of the region in cells
+   * 
+   * @throws IndexOutOfBoundsException if the region is not inside of the grid
+   */
+  protected void checkRegion(int x, int y, int regionWidth, int regionHeight) {
+    Objects.checkFromIndexSize(x, regionWidth, width);
+    Objects.checkFromIndexSize(y, regionHeight, height);
+  }
+
+  /**
+   * A method used to set the Objects of the gridArray covering the given region, including its border.
+   * The values are indexed by the kind of the Object: 0 corner, 1 horizontal wall, 2 vertical wall, 3 cell.
+   * With a gridArray the rows are written with Arrays.fill or System.arraycopy of a prepared row,
+   * otherwise every Object is set with {@link #setObject(int, int, Object)}.
+   * 
+   * @param x             x coordinate of the upper left cell of the region
+   * @param y             y coordinate of the upper left cell of the region
+   * @param regionWidth   width of the region in cells
+   * @param regionHeight  height of the region in cells
+   * @param values        values of the four kinds of Objects
+   * @param kinds         combination of CELLS, WALLS and CORNERS that will be written
+   */
+  protected void fillLattice(int x, int y, int regionWidth, int regionHeight, Object[] values, int kinds) {
+    if (regionWidth == 0 || regionHeight == 0) {
+      return;
+    }
+    int fromX = x*2;
+    int length = (regionWidth*2)+1;
+    for (int parity = 0; parity < 2; parity++) {
+      // even rows hold corners and horizontal walls, odd rows vertical walls and cells
+      boolean writeEven = (kinds & (parity == 0 ? CORNERS : WALLS)) != 0;
+      boolean writeOdd = (kinds & (parity == 0 ? WALLS : CELLS)) != 0;
+      if (!writeEven && !writeOdd) {
+        continue;
+      }
+      Object evenValue = values[parity << 1];
+      Object oddValue = values[(parity << 1) | 1];
+      Object[] template = null;
+      if (gridArray != null && writeEven && writeOdd && evenValue != oddValue) {
+        template = new Object[length];
+        for (int col = 0; col < length; col++) {
+          template[col] = (col%2 == 0 ? evenValue : oddValue);
+        }
+      }
+      for (int row = (y*2)+parity; row <= (y+regionHeight)*2; row += 2) {
+        if (gridArray == null) {
+          for (int col = (writeEven ? 0 : 1); col < length; col += (writeEven && writeOdd ? 1 : 2)) {
+            setObject(fromX+col, row, (col%2 == 0 ? evenValue : oddValue));
+          }
+        } else if (writeEven && writeOdd) {
+          hashRow(row, fromX, fromX+length, 1);
+          if (template != null) {
+            System.arraycopy(template, 0, writableRow(row), fromX, length);
+          } else {
+            Arrays.fill(writableRow(row), fromX, fromX+length, evenValue);
+          }
+          hashRow(row, fromX, fromX+length, 1);
+          markDirty(row, fromX, fromX+length);
+        } else {
+          int start = fromX + (writeEven ? 0 : 1);
+          hashRow(row, start, fromX+length, 2);
+          Object[] target = writableRow(row);
+          Object value = (writeEven ? evenValue : oddValue);
+          for (int col = start; col < fromX+length; col += 2) {
+            target[col] = value;
+            markDirty(col, row);
+          }
+          hashRow(row, start, fromX+length, 2);
+        }
+      }
+    }
+  }
+
   /**
    * A method used to calculate the direction that the cell at the second coordinates
    * relative to the first coordinates is.
@@ -281,11 +523,21 @@ public class Grid<T, W> {
 
   /**
    * A method used to convert the grid to an Object array.
+   * If the grid doesn't use the gridArray as storage, a copy is returned.
    * 
    * @return  Object[][] gridArray
    */
   public Object[][] toArray() {
-    return gridArray;
+    if (gridArray != null) {
+      return gridArray;
+    }
+    Object[][] output = new Object[convert(height)][convert(width)];
+    for (int y = 0; y < output.length; y++) {
+      for (int x = 0; x < output[y].length; x++) {
+        output[y][x] = load(x, y);
+      }
+    }
+    return output;
   }
 
   /**
@@ -297,12 +549,320 @@ public class Grid<T, W> {
     Object[][] output = new Object[height][width];
     for (int y = 0; y < height; y++) {
       for (int x = 0; x < width; x++) {
-        output[y][x] = get(y, x);
+        output[y][x] = get(x, y);
       }
     }
     return output;
   }
 
+  /**
+   * A method used to get a Stream of all cell values in row-major order.
+   * The Stream splits into bands of rows, so it can be processed in parallel.
+   * 
+   * @return  Stream of the cell values
+   */
+  @SuppressWarnings("unchecked")
+  public Stream<T> cells() {
+    int cols = width;
+    return StreamSupport.stream(new GridSpliterator<T>(0, (long) width*height,
+      i -> (T) load(convert((int) (i%cols)), convert((int) (i/cols))),
+      i -> i - (i%cols)), false);
+  }
+
+  /**
+   * A method used to get a Stream of all wall values. Every wall is contained once, row by row
+   * the upper walls of the cells are followed by the left walls and the right wall of the last cell.
+   * The lower walls of the last row come last.
+   * The Stream splits into bands of rows, so it can be processed in parallel.
+   * 
+   * @return  Stream of the wall values
+   */
+  @SuppressWarnings("unchecked")
+  public Stream<W> walls() {
+    int cols = width;
+    int band = (width*2)+1;
+    return StreamSupport.stream(new GridSpliterator<W>(0, ((long) height*band)+width,
+      i -> {
+        int row = (int) (i/band);
+        int col = (int) (i%band);
+        return (W) (col < cols ? load((col*2)+1, row*2) : load((col-cols)*2, (row*2)+1));
+      },
+      i -> i - (i%band)), false);
+  }
+
+  /**
+   * A method used to visit all cells with their coordinates in row-major order.
+   * 
+   * @param visitor visitor called for every cell
+   */
+  @SuppressWarnings("unchecked")
+  public void forEachCell(CellVisitor<? super T> visitor) {
+    for (int y = 0; y < height; y++) {
+      for (int x = 0; x < width; x++) {
+        visitor.visit(x, y, (T) load(convert(x), convert(y)));
+      }
+    }
+  }
+
+  /**
+   * A method used to visit every wall once in the order of {@link #walls()}.
+   * Walls are reported as the upper or left wall of their cell, the walls at the lower and right
+   * border as the lower or right wall of the last cell.
+   * 
+   * @param visitor visitor called for every wall
+   */
+  @SuppressWarnings("unchecked")
+  public void forEachWall(WallVisitor<? super W> visitor) {
+    for (int y = 0; y <= height; y++) {
+      int row = y*2;
+      for (int x = 0; x < width; x++) {
+        if (y < height) {
+          visitor.visit(x, y, Direction.UP, (W) load((x*2)+1, row));
+        } else {
+          visitor.visit(x, y-1, Direction.DOWN, (W) load((x*2)+1, row));
+        }
+      }
+      if (y < height) {
+        for (int x = 0; x < width; x++) {
+          visitor.visit(x, y, Direction.LEFT, (W) load(x*2, row+1));
+        }
+        visitor.visit(width-1, y, Direction.RIGHT, (W) load(width*2, row+1));
+      }
+    }
+  }
+
+  /**
+   * A method used to pack the coordinates of a cell into a cell index y*width+x,
+   * as used by the neighbour methods.
+   * 
+   * @param x x coordinate of the cell
+   * @param y y coordinate of the cell
+   * @return  index of the cell
+   * 
+   * @throws IndexOutOfBoundsException if the coordinates are not valid
+   */
+  public int indexOf(int x, int y) {
+    Objects.checkIndex(x, width);
+    Objects.checkIndex(y, height);
+    return (y*width)+x;
+  }
+
+  /**
+   * A method used to get the x coordinate of the cell with the given index.
+   * 
+   * @param index index of the cell
+   * @return      x coordinate of the cell
+   * 
+   * @throws IndexOutOfBoundsException if there is no cell with the index
+   */
+  public int xOf(int index) {
+    Objects.checkIndex(index, width*height);
+    return index%width;
+  }
+
+  /**
+   * A method used to get the y coordinate of the cell with the given index.
+   * 
+   * @param index index of the cell
+   * @return      y coordinate of the cell
+   * 
+   * @throws IndexOutOfBoundsException if there is no cell with the index
+   */
+  public int yOf(int index) {
+    Objects.checkIndex(index, width*height);
+    return index/width;
+  }
+
+  /**
+   * A method used to write the indices of the cells right, below, left and above the cell with the
+   * given index into the given array, in this order, skipping cells outside of the grid.
+   * Nothing is allocated, so it can be used in the inner loop of generators and solvers.
+   * 
+   * @param index index of the cell
+   * @param out   array with space for at least 4 indices
+   * @return      amount of indices written
+   * 
+   * @throws IndexOutOfBoundsException if there is no cell with the index
+   * 
+   * @see com.github.pirasleandro.containers.Grid#indexOf(int, int)
+   */
+  public int neighbours4(int index, int[] out) {
+    return neighbours4(index, null, out);
+  }
+
+  /**
+   * A method used to write the indices of the cells right, below, left and above the cell with the
+   * given index whose value matches the given filter into the given array.
+   * 
+   * @param index   index of the cell
+   * @param filter  filter of the cell values, null to accept all cells
+   * @param out     array with space for at least 4 indices
+   * @return        amount of indices written
+   * 
+   * @throws IndexOutOfBoundsException if there is no cell with the index
+   * 
+   * @see com.github.pirasleandro.containers.Grid#neighbours4(int, int[])
+   */
+  public int neighbours4(int index, Predicate<? super T> filter, int[] out) {
+    Objects.checkIndex(index, width*height);
+    int x = index%width;
+    int y = index/width;
+    int count = 0;
+    for (int i = 0; i < 4; i++) {
+      int nx = x+NEIGHBOUR_X[i];
+      int ny = y+NEIGHBOUR_Y[i];
+      if (areCordsValid(nx, ny) && (filter == null || filter.test(cellAt(nx, ny)))) {
+        out[count++] = (ny*width)+nx;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * A method used to write the indices of the up to 8 cells around the cell with the given index into
+   * the given array, starting right of the cell and going clockwise.
+   * 
+   * @param index index of the cell
+   * @param out   array with space for at least 8 indices
+   * @return      amount of indices written
+   * 
+   * @throws IndexOutOfBoundsException if there is no cell with the index
+   * 
+   * @see com.github.pirasleandro.containers.Grid#neighbours4(int, int[])
+   */
+  public int neighbours8(int index, int[] out) {
+    return neighbours8(index, null, out);
+  }
+
+  /**
+   * A method used to write the indices of the up to 8 cells around the cell with the given index whose
+   * value matches the given filter into the given array, starting right of the cell and going clockwise.
+   * 
+   * @param index   index of the cell
+   * @param filter  filter of the cell values, null to accept all cells
+   * @param out     array with space for at least 8 indices
+   * @return        amount of indices written
+   * 
+   * @throws IndexOutOfBoundsException if there is no cell with the index
+   */
+  public int neighbours8(int index, Predicate<? super T> filter, int[] out) {
+    Objects.checkIndex(index, width*height);
+    int x = index%width;
+    int y = index/width;
+    int count = 0;
+    for (int i = 0; i < 8; i++) {
+      int nx = x+NEIGHBOUR_X[i+4];
+      int ny = y+NEIGHBOUR_Y[i+4];
+      if (areCordsValid(nx, ny) && (filter == null || filter.test(cellAt(nx, ny)))) {
+        out[count++] = (ny*width)+nx;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * A method used to write the indices of the cells right, below, left and above the cell with the
+   * given index that can be reached from it into the given array. A cell can be reached if the wall
+   * between the cells matches the given predicate.
+   * 
+   * @param index   index of the cell
+   * @param open    predicate of the walls that can be passed
+   * @param out     array with space for at least 4 indices
+   * @return        amount of indices written
+   * 
+   * @throws IndexOutOfBoundsException if there is no cell with the index
+   */
+  public int passableNeighbours(int index, Predicate<? super W> open, int[] out) {
+    Objects.checkIndex(index, width*height);
+    int x = index%width;
+    int y = index/width;
+    int count = 0;
+    for (int i = 0; i < 4; i++) {
+      int nx = x+NEIGHBOUR_X[i];
+      int ny = y+NEIGHBOUR_Y[i];
+      if (areCordsValid(nx, ny) && open.test(wallAt(convert(x)+NEIGHBOUR_X[i], convert(y)+NEIGHBOUR_Y[i]))) {
+        out[count++] = (ny*width)+nx;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * A method used to call the given consumer with the index of every cell right, below, left and above
+   * the cell with the given index.
+   * 
+   * @param index     index of the cell
+   * @param consumer  consumer of the indices
+   * 
+   * @throws IndexOutOfBoundsException if there is no cell with the index
+   * 
+   * @see com.github.pirasleandro.containers.Grid#neighbours4(int, int[])
+   */
+  public void forEachNeighbour4(int index, IntConsumer consumer) {
+    Objects.checkIndex(index, width*height);
+    int x = index%width;
+    int y = index/width;
+    for (int i = 0; i < 4; i++) {
+      if (areCordsValid(x+NEIGHBOUR_X[i], y+NEIGHBOUR_Y[i])) {
+        consumer.accept(index + (NEIGHBOUR_Y[i]*width) + NEIGHBOUR_X[i]);
+      }
+    }
+  }
+
+  /**
+   * A method used to call the given consumer with the index of every cell around the cell with the given index.
+   * 
+   * @param index     index of the cell
+   * @param consumer  consumer of the indices
+   * 
+   * @throws IndexOutOfBoundsException if there is no cell with the index
+   * 
+   * @see com.github.pirasleandro.containers.Grid#neighbours8(int, int[])
+   */
+  public void forEachNeighbour8(int index, IntConsumer consumer) {
+    Objects.checkIndex(index, width*height);
+    int x = index%width;
+    int y = index/width;
+    for (int i = 4; i < 12; i++) {
+      if (areCordsValid(x+NEIGHBOUR_X[i], y+NEIGHBOUR_Y[i])) {
+        consumer.accept(index + (NEIGHBOUR_Y[i]*width) + NEIGHBOUR_X[i]);
+      }
+    }
+  }
+
+  /**
+   * A method used to call the given consumer with the index of every cell right, below, left and above
+   * the cell with the given index that can be reached from it.
+   * 
+   * @param index     index of the cell
+   * @param open      predicate of the walls that can be passed
+   * @param consumer  consumer of the indices
+   * 
+   * @throws IndexOutOfBoundsException if there is no cell with the index
+   * 
+   * @see com.github.pirasleandro.containers.Grid#passableNeighbours(int, Predicate, int[])
+   */
+  public void forEachPassableNeighbour(int index, Predicate<? super W> open, IntConsumer consumer) {
+    Objects.checkIndex(index, width*height);
+    int x = index%width;
+    int y = index/width;
+    for (int i = 0; i < 4; i++) {
+      if (areCordsValid(x+NEIGHBOUR_X[i], y+NEIGHBOUR_Y[i]) && open.test(wallAt(convert(x)+NEIGHBOUR_X[i], convert(y)+NEIGHBOUR_Y[i]))) {
+        consumer.accept(index + (NEIGHBOUR_Y[i]*width) + NEIGHBOUR_X[i]);
+      }
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private T cellAt(int x, int y) {
+    return (T) (gridArray != null ? gridArray[convert(y)][convert(x)] : load(convert(x), convert(y)));
+  }
+
+  @SuppressWarnings("unchecked")
+  private W wallAt(int x, int y) {
+    return (W) (gridArray != null ? gridArray[y][x] : load(x, y));
+  }
+
   /**
    * getter
    * 
@@ -329,7 +889,7 @@ public class Grid<T, W> {
    * @return  value of the cell
    */
   public Object get(int x, int y) {
-    return gridArray[convert(y)][convert(x)];
+    return load(convert(x), convert(y));
   }
 
   /**
@@ -354,10 +914,10 @@ public class Grid<T, W> {
    */
   public Object getWall(int x, int y, Direction direction) {
     switch (direction) {
-      case UP: return gridArray[convert(y)-1][convert(x)];
-      case DOWN: return gridArray[convert(y)+1][convert(x)];
-      case LEFT: return gridArray[convert(y)][convert(x)-1];
-      case RIGHT: return gridArray[convert(y)][convert(x)+1];
+      case UP: return load(convert(x), convert(y)-1);
+      case DOWN: return load(convert(x), convert(y)+1);
+      case LEFT: return load(convert(x)-1, convert(y));
+      case RIGHT: return load(convert(x)+1, convert(y));
       default: return null;
     }
   }
@@ -371,9 +931,346 @@ public class Grid<T, W> {
    * @return  Object from the gridArray at the given index
    */
   public Object getObject(int x, int y) {
+    return load(x, y);
+  }
+
+  /**
+   * A method used to set the Object at the given coordinates in the gridArray. This can be a cell,
+   * a wall or a corner. All setters of the grid end up here.
+   * 
+   * @param x     x coordinate of the Object
+   * @param y     y coordinate of the Object
+   * @param value value the Object will be set to
+   */
+  protected void setObject(int x, int y, Object value) {
+    if (hashed) {
+      int index = (y*convert(width))+x;
+      hash ^= zobrist(index, load(x, y)) ^ zobrist(index, value);
+    }
+    store(x, y, value);
+    markDirty(x, y);
+  }
+
+  /**
+   * A method used to enable or disable tracking which cells, walls and corners are written.
+   * Disabling the tracking discards the changes that were not drained yet.
+   * The tracking is not thread-safe.
+   * 
+   * @param enabled true to track changes, false to stop tracking them
+   * 
+   * @see com.github.pirasleandro.containers.Grid#drainDirty()
+   */
+  public void trackChanges(boolean enabled) {
+    if (!enabled) {
+      dirty = null;
+    } else if (dirty == null) {
+      dirty = new BitSet();
+    }
+  }
+
+  /**
+   * A method used to determine if changes are tracked.
+   * 
+   * @return  true if they're tracked, false if they're not
+   */
+  public boolean isTrackingChanges() {
+    return dirty != null;
+  }
+
+  /**
+   * A method used to get all Objects that were written since the last call and to start over.
+   * The Objects are given as gridArray indices y*(2*width+1)+x, so a set bit can be a cell, a wall or a corner.
+   * 
+   * @return  BitSet of the gridArray indices that were written
+   * 
+   * @throws IllegalStateException if changes are not tracked
+   * 
+   * @see com.github.pirasleandro.containers.Grid#trackChanges(boolean)
+   */
+  public BitSet drainDirty() {
+    if (dirty == null) {
+      throw new IllegalStateException("changes of the grid are not tracked");
+    }
+    BitSet output = dirty;
+    dirty = new BitSet();
+    return output;
+  }
+
+  /**
+   * A method used to mark the Object at the given gridArray coordinates as written,
+   * if changes are tracked. Writes that don't go through {@link #setObject(int, int, Object)} call this.
+   * 
+   * @param x x coordinate of the Object
+   * @param y y coordinate of the Object
+   */
+  protected void markDirty(int x, int y) {
+    modCount++;
+    if (dirty != null) {
+      dirty.set((y*convert(width))+x);
+    }
+  }
+
+  /**
+   * A method used to mark a part of a row of the gridArray as written, if changes are tracked.
+   * 
+   * @param y     y coordinate of the row
+   * @param fromX first x coordinate, inclusive
+   * @param toX   last x coordinate, exclusive
+   */
+  protected void markDirty(int y, int fromX, int toX) {
+    modCount++;
+    if (dirty != null) {
+      dirty.set((y*convert(width))+fromX, (y*convert(width))+toX);
+    }
+  }
+
+  /**
+   * A method used by subclasses that change their storage without {@link #setObject(int, int, Object)},
+   * like a fill of all planes at once. The whole grid is marked as written and the hash is calculated again.
+   */
+  protected void allChanged() {
+    modCount++;
+    if (dirty != null) {
+      dirty.set(0, convert(width)*convert(height));
+    }
+    if (hashed) {
+      hash = computeHash();
+    }
+  }
+
+  /**
+   * A method used to get a counter that changes on every write, so caches built from the grid can detect
+   * that they are stale. Writes to the arrays returned by {@link #toArray()} are not counted, and a
+   * {@link com.github.pirasleandro.containers.ConcurrentGrid} doesn't count its writes at all.
+   * 
+   * @return  amount of writes since the grid was created
+   */
+  public int getModCount() {
+    return modCount;
+  }
+
+  /**
+   * A method used to enable or disable maintaining the hash of the content of the grid.
+   * Enabling it calculates the hash once, afterwards every write updates it in O(1).
+   * 
+   * @param enabled true to maintain the hash, false to stop maintaining it
+   * 
+   * @see com.github.pirasleandro.containers.Grid#contentHash()
+   */
+  public void trackHash(boolean enabled) {
+    if (enabled && !hashed) {
+      hash = computeHash();
+    }
+    hashed = enabled;
+  }
+
+  /**
+   * A method used to get a 64 bit hash of all cells, walls and corners of the grid. Every Object contributes
+   * a mix of its gridArray index and the hashCode of its value, the contributions are combined with XOR
+   * like a Zobrist hash, so a write only has to replace the contribution of the written Object.
+   * Grids of the same size with equal content have the same hash.
+   * If the hash is not maintained, it's calculated from scratch.
+   * 
+   * @return  hash of the content
+   * 
+   * @see com.github.pirasleandro.containers.Grid#trackHash(boolean)
+   */
+  public long contentHash() {
+    return (hashed ? hash : computeHash());
+  }
+
+  /**
+   * A method used to determine if the grid has the same size and the same cells, walls and corners as the
+   * given grid. Rows shared with a snapshot are skipped and rows of gridArrays are compared with Arrays.equals.
+   * If both grids maintain their hash, grids with different hashes are rejected right away.
+   * 
+   * @param other grid to be compared with
+   * @return      true if the content is equal, false if it's not
+   */
+  public boolean contentEquals(Grid<?,?> other) {
+    if (other == this) {
+      return true;
+    }
+    if (other == null || width != other.width || height != other.height) {
+      return false;
+    }
+    if (hashed && other.hashed && hash != other.hash) {
+      return false;
+    }
+    int rows = convert(height);
+    int cols = convert(width);
+    for (int y = 0; y < rows; y++) {
+      if (gridArray != null && other.gridArray != null) {
+        if (gridArray[y] != other.gridArray[y] && !Arrays.equals(gridArray[y], other.gridArray[y])) {
+          return false;
+        }
+      } else {
+        for (int x = 0; x < cols; x++) {
+          if (!Objects.equals(load(x, y), other.load(x, y))) {
+            return false;
+          }
+        }
+      }
+    }
+    return true;
+  }
+
+  private long computeHash() {
+    long output = 0;
+    int rows = convert(height);
+    int cols = convert(width);
+    for (int y = 0; y < rows; y++) {
+      for (int x = 0; x < cols; x++) {
+        output ^= zobrist((y*cols)+x, load(x, y));
+      }
+    }
+    return output;
+  }
+
+  /**
+   * A method used to XOR the contributions of a part of a row of the gridArray into the hash.
+   * Bulk writes call it before and after writing, to remove the old and add the new contributions.
+   * 
+   * @param y     y coordinate of the row
+   * @param fromX first x coordinate, inclusive
+   * @param toX   last x coordinate, exclusive
+   * @param step  distance between the x coordinates
+   */
+  private void hashRow(int y, int fromX, int toX, int step) {
+    if (!hashed) {
+      return;
+    }
+    Object[] row = gridArray[y];
+    int offset = y*convert(width);
+    for (int x = fromX; x < toX; x += step) {
+      hash ^= zobrist(offset+x, row[x]);
+    }
+  }
+
+  /**
+   * A method used to get the contribution of a value at the given gridArray index to the hash.
+   * 
+   * @param index gridArray index y*(2*width+1)+x
+   * @param value value at the index
+   * @return      contribution to the hash
+   */
+  private static long zobrist(int index, Object value) {
+    long z = (index * 0x9E3779B97F4A7C15L) + (value == null ? 0x632BE59BD9B4E019L : value.hashCode());
+    z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+    z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+    return z ^ (z >>> 31);
+  }
+
+  /**
+   * A method used to read the Object at the given gridArray coordinates from the storage.
+   * Subclasses with their own storage override this together with {@link #store(int, int, Object)}.
+   * 
+   * @param x x coordinate of the Object
+   * @param y y coordinate of the Object
+   * @return  Object at the given coordinates
+   * 
+   * @throws IndexOutOfBoundsException if the coordinates are outside of the gridArray
+   */
+  protected Object load(int x, int y) {
     return gridArray[y][x];
   }
 
+  /**
+   * A method used to write the Object at the given gridArray coordinates to the storage.
+   * 
+   * @param x     x coordinate of the Object
+   * @param y     y coordinate of the Object
+   * @param value value the Object will be set to
+   * 
+   * @throws IndexOutOfBoundsException if the coordinates are outside of the gridArray
+   * 
+   * @see com.github.pirasleandro.containers.Grid#load(int, int)
+   */
+  protected void store(int x, int y, Object value) {
+    writableRow(y)[x] = value;
+  }
+
+  /**
+   * A method used to get a row of the gridArray that may be written to. Rows that are still shared
+   * with a snapshot are copied first, so only the rows that are actually changed are copied.
+   * Every write to the gridArray has to go through this method.
+   * 
+   * @param y y coordinate of the row in the gridArray
+   * @return  Object[] of the row, owned by this grid
+   * 
+   * @throws UnsupportedOperationException if the grid is a read-only snapshot
+   * 
+   * @see com.github.pirasleandro.containers.Grid#snapshot()
+   */
+  protected Object[] writableRow(int y) {
+    if (readOnly) {
+      throw new UnsupportedOperationException("a snapshot of a grid can't be changed");
+    }
+    if (sharedArray) {
+      gridArray = gridArray.clone();
+      if (rowGenerations == null) {
+        rowGenerations = new int[gridArray.length];
+      }
+      sharedArray = false;
+    }
+    if (rowGenerations != null && rowGenerations[y] != generation) {
+      gridArray[y] = gridArray[y].clone();
+      rowGenerations[y] = generation;
+    }
+    return gridArray[y];
+  }
+
+  /**
+   * A method used to get a read-only snapshot of the current state of the grid in O(1).
+   * The snapshot shares the gridArray with the grid, later changes to the grid copy the rows
+   * they touch, so the snapshot never changes. Changing the snapshot throws an UnsupportedOperationException.
+   * The arrays returned by {@link #toArray()} of the grid and its snapshots must not be changed.
+   * 
+   * @return  read-only snapshot of the grid
+   * 
+   * @throws UnsupportedOperationException if the grid doesn't use the gridArray as storage
+   */
+  public Grid<T,W> snapshot() {
+    Grid<T,W> snapshot = new Grid<>(width, height, shareArray());
+    snapshot.setReadOnly();
+    return snapshot;
+  }
+
+  /**
+   * A method used by {@link #snapshot()} to share the gridArray with a new snapshot.
+   * All rows count as shared until they are written again.
+   * 
+   * @return  the gridArray
+   * 
+   * @throws UnsupportedOperationException if the grid doesn't use the gridArray as storage
+   */
+  protected Object[][] shareArray() {
+    if (gridArray == null) {
+      throw new UnsupportedOperationException(getClass().getName() + " doesn't support snapshots");
+    }
+    if (!readOnly) {
+      generation++;
+      sharedArray = true;
+    }
+    return gridArray;
+  }
+
+  /**
+   * A method used to mark a grid created by {@link #snapshot()} as read-only.
+   */
+  protected void setReadOnly() {
+    readOnly = true;
+  }
+
+  /**
+   * A method used to determine if the grid is a read-only snapshot.
+   * 
+   * @return  true if it's read-only, false if it's not
+   */
+  public boolean isReadOnly() {
+    return readOnly;
+  }
+
   /**
    * A method used to determine if the coordinates are in the bounds of the grid.
    * 
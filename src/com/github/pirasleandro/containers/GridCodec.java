@@ -0,0 +1,241 @@
+package com.github.pirasleandro.containers;
+
+import java.nio.ByteBuffer;
+
+/**
+ * @author Leandro Piras
+ * @version 1.1
+ *
+ * Fixed-width encoding of a value type, used by grids that store their values as bytes
+ * instead of Objects. Every value takes exactly {@link #size()} bytes.
+ *
+ * @see com.github.pirasleandro.containers.OffHeapGrid
+ *
+ * @param V type of the encoded values
+ */
+public abstract class GridCodec<V> {
+  /**
+   * Codec storing Booleans in one byte. null is stored as well.
+   */
+  public static final GridCodec<Boolean> BOOLEAN = new GridCodec<>("boolean", 1) {
+    @Override
+    public Boolean read(ByteBuffer buffer, int offset) {
+      byte value = buffer.get(offset);
+      return (value < 0 ? null : value == 1);
+    }
+
+    @Override
+    public void write(ByteBuffer buffer, int offset, Boolean value) {
+      buffer.put(offset, (byte) (value == null ? -1 : value ? 1 : 0));
+    }
+  };
+  /**
+   * Codec storing Bytes in one byte.
+   */
+  public static final GridCodec<Byte> BYTE = new GridCodec<>("byte", 1) {
+    @Override
+    public Byte read(ByteBuffer buffer, int offset) {
+      return buffer.get(offset);
+    }
+
+    @Override
+    public void write(ByteBuffer buffer, int offset, Byte value) {
+      buffer.put(offset, requireValue(value));
+    }
+  };
+  /**
+   * Codec storing Shorts in two bytes.
+   */
+  public static final GridCodec<Short> SHORT = new GridCodec<>("short", 2) {
+    @Override
+    public Short read(ByteBuffer buffer, int offset) {
+      return buffer.getShort(offset);
+    }
+
+    @Override
+    public void write(ByteBuffer buffer, int offset, Short value) {
+      buffer.putShort(offset, requireValue(value));
+    }
+  };
+  /**
+   * Codec storing Characters in two bytes.
+   */
+  public static final GridCodec<Character> CHARACTER = new GridCodec<>("char", 2) {
+    @Override
+    public Character read(ByteBuffer buffer, int offset) {
+      return buffer.getChar(offset);
+    }
+
+    @Override
+    public void write(ByteBuffer buffer, int offset, Character value) {
+      buffer.putChar(offset, requireValue(value));
+    }
+  };
+  /**
+   * Codec storing Integers in four bytes.
+   */
+  public static final GridCodec<Integer> INTEGER = new GridCodec<>("int", 4) {
+    @Override
+    public Integer read(ByteBuffer buffer, int offset) {
+      return buffer.getInt(offset);
+    }
+
+    @Override
+    public void write(ByteBuffer buffer, int offset, Integer value) {
+      buffer.putInt(offset, requireValue(value));
+    }
+  };
+  /**
+   * Codec storing Floats in four bytes.
+   */
+  public static final GridCodec<Float> FLOAT = new GridCodec<>("float", 4) {
+    @Override
+    public Float read(ByteBuffer buffer, int offset) {
+      return buffer.getFloat(offset);
+    }
+
+    @Override
+    public void write(ByteBuffer buffer, int offset, Float value) {
+      buffer.putFloat(offset, requireValue(value));
+    }
+  };
+  /**
+   * Codec storing Longs in eight bytes.
+   */
+  public static final GridCodec<Long> LONG = new GridCodec<>("long", 8) {
+    @Override
+    public Long read(ByteBuffer buffer, int offset) {
+      return buffer.getLong(offset);
+    }
+
+    @Override
+    public void write(ByteBuffer buffer, int offset, Long value) {
+      buffer.putLong(offset, requireValue(value));
+    }
+  };
+  /**
+   * Codec storing Doubles in eight bytes.
+   */
+  public static final GridCodec<Double> DOUBLE = new GridCodec<>("double", 8) {
+    @Override
+    public Double read(ByteBuffer buffer, int offset) {
+      return buffer.getDouble(offset);
+    }
+
+    @Override
+    public void write(ByteBuffer buffer, int offset, Double value) {
+      buffer.putDouble(offset, requireValue(value));
+    }
+  };
+
+  // name of the codec
+  private final String name;
+  // amount of bytes of one value
+  private final int size;
+
+  /**
+   * A constructor.
+   *
+   * @param name  name of the codec
+   * @param size  amount of bytes of one value
+   *
+   * @throws IllegalArgumentException if the size is smaller than 1
+   */
+  protected GridCodec(String name, int size) {
+    if (size < 1) {
+      throw new IllegalArgumentException("the size of a codec must be minimum 1, was " + size);
+    }
+    this.name = name;
+    this.size = size;
+  }
+
+  /**
+   * A method used to get a codec storing the ordinal of an enum constant in one byte,
+   * or two bytes if the enum has more than 128 constants. null is stored as -1, so one byte holds the
+   * ordinals 0 to 127.
+   *
+   * @param <E>       enum type
+   * @param enumClass class of the enum
+   * @return          codec of the enum
+   */
+  public static <E extends Enum<E>> GridCodec<E> ofEnum(Class<E> enumClass) {
+    E[] constants = enumClass.getEnumConstants();
+    boolean small = constants.length <= Byte.MAX_VALUE + 1;
+    return new GridCodec<>("enum:" + enumClass.getName(), small ? 1 : 2) {
+      @Override
+      public E read(ByteBuffer buffer, int offset) {
+        int ordinal = (small ? buffer.get(offset) : buffer.getShort(offset));
+        return (ordinal < 0 ? null : constants[ordinal]);
+      }
+
+      @Override
+      public void write(ByteBuffer buffer, int offset, E value) {
+        int ordinal = (value == null ? -1 : value.ordinal());
+        if (small) {
+          buffer.put(offset, (byte) ordinal);
+        } else {
+          buffer.putShort(offset, (short) ordinal);
+        }
+      }
+    };
+  }
+
+  /**
+   * A method used to read the value at the given offset of the buffer.
+   *
+   * @param buffer  buffer the value is read from
+   * @param offset  offset of the first byte of the value
+   * @return        decoded value
+   */
+  public abstract V read(ByteBuffer buffer, int offset);
+
+  /**
+   * A method used to write the value at the given offset of the buffer.
+   *
+   * @param buffer  buffer the value is written to
+   * @param offset  offset of the first byte of the value
+   * @param value   value to be encoded
+   *
+   * @throws NullPointerException if the value is null and the codec can't store null
+   */
+  public abstract void write(ByteBuffer buffer, int offset, V value);
+
+  /**
+   * getter
+   *
+   * @return  amount of bytes of one value
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * getter
+   *
+   * @return  name of the codec
+   */
+  public String name() {
+    return name;
+  }
+
+  /**
+   * A method used by codecs that can't store null to reject it.
+   *
+   * @param <X>   type of the value
+   * @param value value to be checked
+   * @return      the value
+   *
+   * @throws NullPointerException if the value is null
+   */
+  protected <X> X requireValue(X value) {
+    if (value == null) {
+      throw new NullPointerException("the codec " + name + " can't store null");
+    }
+    return value;
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getName() + "[name=" + name + ",size=" + size + "]";
+  }
+}
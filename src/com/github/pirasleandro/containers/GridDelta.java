@@ -0,0 +1,520 @@
+package com.github.pirasleandro.containers;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * @author Leandro Piras
+ * @version 1.1
+ *
+ * The difference between two grids of the same size, stored as the sorted gridArray indices
+ * (y * (2*width+1) + x) of the changed Objects and their new values. A delta can be applied to any grid of
+ * the same size to turn the old state into the new one, and it can be encoded to a compact byte[] with
+ * {@link com.github.pirasleandro.containers.GridCodec}s to be sent to another process or written to a replay file.
+ * <p>
+ * Rows are compared with {@link java.util.Arrays#mismatch(Object[], int, int, Object[], int, int)}, which
+ * calls equals for every Object until the first difference, and rows shared with a snapshot are skipped.
+ * Only the diffs of {@link com.github.pirasleandro.containers.IntGrid}s, {@link com.github.pirasleandro.containers.ByteGrid}s
+ * and {@link com.github.pirasleandro.containers.BooleanGrid}s compare their primitive arrays several bytes at a time.
+ * The delta of two {@link com.github.pirasleandro.containers.BitWallGrid}s holds the indices of the changed
+ * words and the XOR of the old and new word instead of values, applying it flips the changed bits.
+ * <p>
+ * Encoded format, little-endian:
+ * <pre>
+ * size  content
+ * 1     kind, 0 for values and 1 for bit words
+ * 4     width
+ * 4     height
+ * 4     amount of entries
+ * then per entry the distance to the previous index as unsigned varint, followed by the value
+ * encoded with the codec of the cell, wall or corner, or as 8 byte word
+ * </pre>
+ *
+ * @see com.github.pirasleandro.containers.Grid
+ * @see com.github.pirasleandro.containers.BitWallGrid
+ */
+public final class GridDelta {
+  private static final byte VALUES = 0;
+  private static final byte WORDS = 1;
+  private final byte kind;
+  private final int width, height;
+  private final int[] indices;
+  // new values of VALUES deltas, Longs with the XOR of the words of WORDS deltas
+  private final Object[] values;
+
+  private GridDelta(byte kind, int width, int height, int[] indices, Object[] values) {
+    this.kind = kind;
+    this.width = width;
+    this.height = height;
+    this.indices = indices;
+    this.values = values;
+  }
+
+  /**
+   * A method used to compute the delta that turns the first grid into the second grid.
+   * Corners are compared as well, they are null in grids that are not {@link com.github.pirasleandro.containers.AdvGrid}s.
+   *
+   * @param from  old state
+   * @param to    new state
+   * @return      delta from the old to the new state
+   *
+   * @throws IllegalArgumentException if the grids have different sizes
+   */
+  public static GridDelta diff(Grid<?,?> from, Grid<?,?> to) {
+    checkSize(from.getWidth(), from.getHeight(), to.getWidth(), to.getHeight());
+    int cols = Grid.convert(to.getWidth());
+    int rows = Grid.convert(to.getHeight());
+    Builder output = new Builder(VALUES, to.getWidth(), to.getHeight());
+    for (int y = 0; y < rows; y++) {
+      int offset = y*cols;
+      if (from.gridArray != null && to.gridArray != null) {
+        Object[] a = from.gridArray[y];
+        Object[] b = to.gridArray[y];
+        if (a == b) {
+          continue;
+        }
+        int x = Arrays.mismatch(a, b);
+        while (x >= 0) {
+          output.add(offset+x, b[x]);
+          int next = (++x < cols ? Arrays.mismatch(a, x, cols, b, x, cols) : -1);
+          x = (next < 0 ? -1 : x+next);
+        }
+      } else {
+        for (int x = 0; x < cols; x++) {
+          Object value = to.getObject(x, y);
+          if (!Objects.equals(from.getObject(x, y), value)) {
+            output.add(offset+x, value);
+          }
+        }
+      }
+    }
+    return output.build();
+  }
+
+  /**
+   * A method used to compute the delta that turns the first TriGrid into the second TriGrid.
+   * The indices are the gridArray indices of the Grids of the TriGrids.
+   *
+   * @param from  old state
+   * @param to    new state
+   * @return      delta from the old to the new state
+   *
+   * @throws IllegalArgumentException if the TriGrids have different sizes
+   *
+   * @see com.github.pirasleandro.containers.GridDelta#diff(Grid, Grid)
+   */
+  public static GridDelta diff(TriGrid<?,?> from, TriGrid<?,?> to) {
+    return diff(from.toGrid(), to.toGrid());
+  }
+
+  /**
+   * A method used to compute the delta that turns the first IntGrid into the second IntGrid.
+   *
+   * @param from  old state
+   * @param to    new state
+   * @return      delta from the old to the new state, with Integer values
+   *
+   * @throws IllegalArgumentException if the grids have different sizes
+   */
+  public static GridDelta diff(IntGrid from, IntGrid to) {
+    checkSize(from.width, from.height, to.width, to.height);
+    int[] a = from.gridArray;
+    int[] b = to.gridArray;
+    Builder output = new Builder(VALUES, to.width, to.height);
+    int i = Arrays.mismatch(a, b);
+    while (i >= 0) {
+      output.add(i, b[i]);
+      int next = (++i < b.length ? Arrays.mismatch(a, i, b.length, b, i, b.length) : -1);
+      i = (next < 0 ? -1 : i+next);
+    }
+    return output.build();
+  }
+
+  /**
+   * A method used to compute the delta that turns the first ByteGrid into the second ByteGrid.
+   *
+   * @param from  old state
+   * @param to    new state
+   * @return      delta from the old to the new state, with Byte values
+   *
+   * @throws IllegalArgumentException if the grids have different sizes
+   */
+  public static GridDelta diff(ByteGrid from, ByteGrid to) {
+    checkSize(from.width, from.height, to.width, to.height);
+    byte[] a = from.gridArray;
+    byte[] b = to.gridArray;
+    Builder output = new Builder(VALUES, to.width, to.height);
+    int i = Arrays.mismatch(a, b);
+    while (i >= 0) {
+      output.add(i, b[i]);
+      int next = (++i < b.length ? Arrays.mismatch(a, i, b.length, b, i, b.length) : -1);
+      i = (next < 0 ? -1 : i+next);
+    }
+    return output.build();
+  }
+
+  /**
+   * A method used to compute the delta that turns the first BooleanGrid into the second BooleanGrid.
+   *
+   * @param from  old state
+   * @param to    new state
+   * @return      delta from the old to the new state, with Boolean values
+   *
+   * @throws IllegalArgumentException if the grids have different sizes
+   */
+  public static GridDelta diff(BooleanGrid from, BooleanGrid to) {
+    checkSize(from.width, from.height, to.width, to.height);
+    boolean[] a = from.gridArray;
+    boolean[] b = to.gridArray;
+    Builder output = new Builder(VALUES, to.width, to.height);
+    int i = Arrays.mismatch(a, b);
+    while (i >= 0) {
+      output.add(i, b[i]);
+      int next = (++i < b.length ? Arrays.mismatch(a, i, b.length, b, i, b.length) : -1);
+      i = (next < 0 ? -1 : i+next);
+    }
+    return output.build();
+  }
+
+  /**
+   * A method used to compute the delta that turns the first BitWallGrid into the second BitWallGrid.
+   * The words of the grids are compared with XOR, only words with changed bits are part of the delta.
+   *
+   * @param from  old state
+   * @param to    new state
+   * @return      delta from the old to the new state, with the XOR of the changed words
+   *
+   * @throws IllegalArgumentException if the grids have different sizes
+   */
+  public static GridDelta diff(BitWallGrid from, BitWallGrid to) {
+    checkSize(from.width, from.height, to.width, to.height);
+    long[] a = from.bits;
+    long[] b = to.bits;
+    Builder output = new Builder(WORDS, to.width, to.height);
+    for (int i = 0; i < b.length; i++) {
+      long changed = a[i] ^ b[i];
+      if (changed != 0) {
+        output.add(i, changed);
+      }
+    }
+    return output.build();
+  }
+
+  /**
+   * A method used to apply the delta to the given grid.
+   * The values are written one by one, so changes and the hash are tracked as usual.
+   *
+   * @param <T>     type of the main storage values
+   * @param <W>     type of the wall values
+   * @param target  grid to be changed
+   *
+   * @throws IllegalArgumentException if the grid has another size or the delta is a delta of BitWallGrids
+   */
+  public <T,W> void apply(Grid<T,W> target) {
+    check(VALUES, target.getWidth(), target.getHeight());
+    int cols = Grid.convert(width);
+    for (int i = 0; i < indices.length; i++) {
+      target.setObject(indices[i]%cols, indices[i]/cols, values[i]);
+    }
+  }
+
+  /**
+   * A method used to apply the delta to the given TriGrid.
+   *
+   * @param <T>     type of the main storage values
+   * @param <W>     type of the wall values
+   * @param target  TriGrid to be changed
+   *
+   * @throws IllegalArgumentException if the TriGrid has another size or the delta is a delta of BitWallGrids
+   *
+   * @see com.github.pirasleandro.containers.GridDelta#apply(Grid)
+   */
+  public <T,W> void apply(TriGrid<T,W> target) {
+    apply(target.toGrid());
+  }
+
+  /**
+   * A method used to apply the delta to the given IntGrid.
+   *
+   * @param target  grid to be changed
+   *
+   * @throws IllegalArgumentException if the grid has another size or the delta is a delta of BitWallGrids
+   * @throws ClassCastException       if a value is not an Integer
+   */
+  public void apply(IntGrid target) {
+    check(VALUES, target.width, target.height);
+    for (int i = 0; i < indices.length; i++) {
+      target.gridArray[indices[i]] = (Integer) values[i];
+    }
+  }
+
+  /**
+   * A method used to apply the delta to the given ByteGrid.
+   *
+   * @param target  grid to be changed
+   *
+   * @throws IllegalArgumentException if the grid has another size or the delta is a delta of BitWallGrids
+   * @throws ClassCastException       if a value is not a Byte
+   */
+  public void apply(ByteGrid target) {
+    check(VALUES, target.width, target.height);
+    for (int i = 0; i < indices.length; i++) {
+      target.gridArray[indices[i]] = (Byte) values[i];
+    }
+  }
+
+  /**
+   * A method used to apply the delta to the given BooleanGrid.
+   *
+   * @param target  grid to be changed
+   *
+   * @throws IllegalArgumentException if the grid has another size or the delta is a delta of BitWallGrids
+   * @throws ClassCastException       if a value is not a Boolean
+   */
+  public void apply(BooleanGrid target) {
+    check(VALUES, target.width, target.height);
+    for (int i = 0; i < indices.length; i++) {
+      target.gridArray[indices[i]] = (Boolean) values[i];
+    }
+  }
+
+  /**
+   * A method used to apply the delta to the given BitWallGrid by flipping the changed bits.
+   * The target must be in the old state of the delta.
+   *
+   * @param target  grid to be changed
+   *
+   * @throws IllegalArgumentException if the grid has another size or the delta is not a delta of BitWallGrids
+   */
+  public void apply(BitWallGrid target) {
+    check(WORDS, target.width, target.height);
+    for (int i = 0; i < indices.length; i++) {
+      target.bits[indices[i]] ^= (Long) values[i];
+    }
+  }
+
+  /**
+   * A method used to encode the delta. The value of every entry is encoded with the codec of its kind,
+   * determined by the parity of its gridArray coordinates. Deltas of BitWallGrids ignore the codecs.
+   *
+   * @param <T>         type of the main storage values
+   * @param <W>         type of the wall values
+   * @param <C>         type of the corner values
+   * @param cellCodec   codec of the cell values
+   * @param wallCodec   codec of the wall values
+   * @param cornerCodec codec of the corner values
+   * @return            encoded delta
+   *
+   * @throws ClassCastException   if a value doesn't fit its codec
+   * @throws NullPointerException if a value is null and its codec can't store null
+   *
+   * @see com.github.pirasleandro.containers.GridDelta#decode(byte[], GridCodec, GridCodec, GridCodec)
+   */
+  @SuppressWarnings("unchecked")
+  public <T,W,C> byte[] encode(GridCodec<T> cellCodec, GridCodec<W> wallCodec, GridCodec<C> cornerCodec) {
+    GridCodec<?>[] codecs = (kind == WORDS ? codecs(null, null, null) : codecs(cellCodec, wallCodec, cornerCodec));
+    int maxSize = 0;
+    for (GridCodec<?> codec : codecs) {
+      maxSize = Math.max(maxSize, codec.size());
+    }
+    ByteBuffer output = ByteBuffer.allocate(13 + (indices.length*(5+maxSize))).order(ByteOrder.LITTLE_ENDIAN);
+    output.put(kind).putInt(width).putInt(height).putInt(indices.length);
+    int cols = Grid.convert(width);
+    int previous = -1;
+    for (int i = 0; i < indices.length; i++) {
+      putVarInt(output, indices[i]-previous-1);
+      previous = indices[i];
+      GridCodec<Object> codec = (GridCodec<Object>) codecs[codecIndex(indices[i], cols)];
+      codec.write(output, output.position(), values[i]);
+      output.position(output.position() + codec.size());
+    }
+    return Arrays.copyOf(output.array(), output.position());
+  }
+
+  /**
+   * A method used to decode a delta encoded with {@link #encode(GridCodec, GridCodec, GridCodec)}.
+   * The same codecs must be given.
+   *
+   * @param <T>         type of the main storage values
+   * @param <W>         type of the wall values
+   * @param <C>         type of the corner values
+   * @param bytes       encoded delta
+   * @param cellCodec   codec of the cell values
+   * @param wallCodec   codec of the wall values
+   * @param cornerCodec codec of the corner values
+   * @return            decoded delta
+   *
+   * @throws IllegalArgumentException if the bytes are not a valid delta
+   */
+  public static <T,W,C> GridDelta decode(byte[] bytes, GridCodec<T> cellCodec, GridCodec<W> wallCodec, GridCodec<C> cornerCodec) {
+    ByteBuffer input = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+    try {
+      byte kind = input.get();
+      int width = input.getInt();
+      int height = input.getInt();
+      int count = input.getInt();
+      if ((kind != VALUES && kind != WORDS) || width < 1 || height < 1 || count < 0 || count > input.remaining()) {
+        throw new IllegalArgumentException("the bytes are not a valid delta");
+      }
+      GridCodec<?>[] codecs = (kind == WORDS ? codecs(null, null, null) : codecs(cellCodec, wallCodec, cornerCodec));
+      int cols = Grid.convert(width);
+      long length = (kind == WORDS ? ((2L*(width+1)*(height+1))+63) >>> 6 : (long) cols*Grid.convert(height));
+      int[] indices = new int[count];
+      Object[] values = new Object[count];
+      int previous = -1;
+      for (int i = 0; i < count; i++) {
+        indices[i] = previous + getVarInt(input) + 1;
+        if (indices[i] <= previous || indices[i] >= length) {
+          throw new IllegalArgumentException("the bytes are not a valid delta");
+        }
+        previous = indices[i];
+        GridCodec<?> codec = codecs[codecIndex(indices[i], cols)];
+        values[i] = codec.read(input, input.position());
+        input.position(input.position() + codec.size());
+      }
+      return new GridDelta(kind, width, height, indices, values);
+    } catch (BufferUnderflowException e) {
+      throw new IllegalArgumentException("the bytes are not a valid delta", e);
+    }
+  }
+
+  /**
+   * getter
+   *
+   * @return  amount of changed Objects, or changed words for deltas of BitWallGrids
+   */
+  public int size() {
+    return indices.length;
+  }
+
+  /**
+   * A method used to determine if the delta doesn't change anything.
+   *
+   * @return  true if it's empty, false if it's not
+   */
+  public boolean isEmpty() {
+    return indices.length == 0;
+  }
+
+  /**
+   * getter
+   *
+   * @return  width of the grids of the delta
+   */
+  public int getWidth() {
+    return width;
+  }
+
+  /**
+   * getter
+   *
+   * @return  height of the grids of the delta
+   */
+  public int getHeight() {
+    return height;
+  }
+
+  /**
+   * A method used to get the sorted indices of the changed Objects.
+   *
+   * @return  copy of the indices
+   */
+  public int[] getIndices() {
+    return indices.clone();
+  }
+
+  /**
+   * A method used to get the new values of the changed Objects, in the order of the indices.
+   *
+   * @return  copy of the values
+   */
+  public Object[] getValues() {
+    return values.clone();
+  }
+
+  private void check(byte kind, int width, int height) {
+    if (this.kind != kind) {
+      throw new IllegalArgumentException(kind == WORDS ? "only deltas of BitWallGrids can be applied to a BitWallGrid" : "a delta of BitWallGrids can only be applied to a BitWallGrid");
+    }
+    checkSize(this.width, this.height, width, height);
+  }
+
+  private static void checkSize(int width, int height, int otherWidth, int otherHeight) {
+    if (width != otherWidth || height != otherHeight) {
+      throw new IllegalArgumentException("the sizes " + width + "/" + height + " and " + otherWidth + "/" + otherHeight + " are different");
+    }
+  }
+
+  /**
+   * A method used to get the codecs in the order corners, walls, cells, matching {@link #codecIndex(int, int)}.
+   * null codecs are used for deltas of BitWallGrids, which encode all words as longs.
+   */
+  private static GridCodec<?>[] codecs(GridCodec<?> cellCodec, GridCodec<?> wallCodec, GridCodec<?> cornerCodec) {
+    if (cellCodec == null && wallCodec == null && cornerCodec == null) {
+      return new GridCodec<?>[] {GridCodec.LONG, GridCodec.LONG, GridCodec.LONG};
+    }
+    return new GridCodec<?>[] {cornerCodec, wallCodec, cellCodec};
+  }
+
+  /**
+   * A method used to get the position of the codec of the given gridArray index, 0 for corners,
+   * 1 for walls and 2 for cells.
+   */
+  private static int codecIndex(int index, int cols) {
+    return ((index/cols)%2) + ((index%cols)%2);
+  }
+
+  private static void putVarInt(ByteBuffer output, int value) {
+    while ((value & ~0x7F) != 0) {
+      output.put((byte) ((value & 0x7F) | 0x80));
+      value >>>= 7;
+    }
+    output.put((byte) value);
+  }
+
+  private static int getVarInt(ByteBuffer input) {
+    int output = 0;
+    for (int shift = 0; shift < 35; shift += 7) {
+      byte b = input.get();
+      output |= (b & 0x7F) << shift;
+      if (b >= 0) {
+        return output;
+      }
+    }
+    throw new IllegalArgumentException("the bytes are not a valid delta");
+  }
+
+  /**
+   * Growing list of entries used while diffing.
+   */
+  private static final class Builder {
+    private final byte kind;
+    private final int width, height;
+    private int[] indices = new int[16];
+    private Object[] values = new Object[16];
+    private int size;
+
+    private Builder(byte kind, int width, int height) {
+      this.kind = kind;
+      this.width = width;
+      this.height = height;
+    }
+
+    private void add(int index, Object value) {
+      if (size == indices.length) {
+        indices = Arrays.copyOf(indices, size*2);
+        values = Arrays.copyOf(values, size*2);
+      }
+      indices[size] = index;
+      values[size] = value;
+      size++;
+    }
+
+    private GridDelta build() {
+      return new GridDelta(kind, width, height, Arrays.copyOf(indices, size), Arrays.copyOf(values, size));
+    }
+  }
+}
@@ -0,0 +1,85 @@
+package com.github.pirasleandro.containers;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * @author Leandro Piras
+ * @version 1.1
+ * 
+ * Spliterator over the values of a grid, addressed by a running index from 0 to the amount of values.
+ * The index is mapped to a value by the getter, rows of the grid are mapped to consecutive ranges of indices.
+ * Splits are aligned to the start of a row if possible, so every part covers a band of whole rows.
+ * 
+ * @see com.github.pirasleandro.containers.Grid#cells()
+ * 
+ * @param V type of the values
+ */
+class GridSpliterator<V> implements Spliterator<V> {
+  private final LongFunction<V> getter;
+  // maps an index to the index of the first value of its row
+  private final LongUnaryOperator rowStart;
+  private long index;
+  private final long end;
+
+  /**
+   * A constructor.
+   * 
+   * @param index     first index, inclusive
+   * @param end       last index, exclusive
+   * @param getter    function mapping an index to its value
+   * @param rowStart  function mapping an index to the first index of its row
+   */
+  GridSpliterator(long index, long end, LongFunction<V> getter, LongUnaryOperator rowStart) {
+    this.index = index;
+    this.end = end;
+    this.getter = getter;
+    this.rowStart = rowStart;
+  }
+
+  @Override
+  public boolean tryAdvance(Consumer<? super V> action) {
+    if (index >= end) {
+      return false;
+    }
+    action.accept(getter.apply(index++));
+    return true;
+  }
+
+  @Override
+  public void forEachRemaining(Consumer<? super V> action) {
+    long i = index;
+    index = end;
+    for (; i < end; i++) {
+      action.accept(getter.apply(i));
+    }
+  }
+
+  @Override
+  public Spliterator<V> trySplit() {
+    long remaining = end - index;
+    if (remaining < 2) {
+      return null;
+    }
+    long mid = index + (remaining/2);
+    long aligned = rowStart.applyAsLong(mid);
+    if (aligned > index) {
+      mid = aligned;
+    }
+    GridSpliterator<V> prefix = new GridSpliterator<>(index, mid, getter, rowStart);
+    index = mid;
+    return prefix;
+  }
+
+  @Override
+  public long estimateSize() {
+    return end - index;
+  }
+
+  @Override
+  public int characteristics() {
+    return ORDERED | SIZED | SUBSIZED;
+  }
+}
@@ -0,0 +1,237 @@
+package com.github.pirasleandro.containers;
+
+import java.util.Objects;
+
+/**
+ * @author Leandro Piras
+ * @version 1.1
+ *
+ * Extends AdvGrid to show another grid in a different window or orientation without copying it.
+ * Every gridArray coordinate of the view is mapped to a gridArray coordinate of the base grid:
+ * <pre>
+ * baseX = originX + xx*x + xy*y
+ * baseY = originY + yx*x + yy*y
+ * </pre>
+ * Because whole gridArray coordinates are mapped, walls and corners move with their cells and
+ * the directions of the walls are remapped on the fly, e.g. the upper wall of a cell in a view rotated
+ * by 90 degrees is the left wall of that cell in the base grid.
+ * Changes to the view are written to the base grid and changes to the base grid are visible in the view.
+ * Views of views are collapsed into a single view of the underlying grid.
+ *
+ * @see com.github.pirasleandro.containers.AdvGrid
+ *
+ * @param T type of the main storage values
+ * @param W type of the wall values
+ * @param C type of the corner values
+ */
+public class GridView<T,W,C> extends AdvGrid<T,W,C> {
+  private final Grid<?,?> base;
+  private final int originX, originY;
+  private final int xx, xy, yx, yy;
+
+  /**
+   * A constructor used by the factory methods.
+   *
+   * @param base    grid that is viewed
+   * @param width   width of the view
+   * @param height  height of the view
+   * @param originX base gridArray x coordinate of the gridArray origin of the view
+   * @param originY base gridArray y coordinate of the gridArray origin of the view
+   * @param xx      change of the base x coordinate per view x coordinate
+   * @param xy      change of the base x coordinate per view y coordinate
+   * @param yx      change of the base y coordinate per view x coordinate
+   * @param yy      change of the base y coordinate per view y coordinate
+   */
+  private GridView(Grid<?,?> base, int width, int height, int originX, int originY, int xx, int xy, int yx, int yy) {
+    super(width, height, null);
+    if (base instanceof GridView) {
+      GridView<?,?,?> view = (GridView<?,?,?>) base;
+      this.base = view.base;
+      this.originX = view.originX + (view.xx*originX) + (view.xy*originY);
+      this.originY = view.originY + (view.yx*originX) + (view.yy*originY);
+      this.xx = (view.xx*xx) + (view.xy*yx);
+      this.xy = (view.xx*xy) + (view.xy*yy);
+      this.yx = (view.yx*xx) + (view.yy*yx);
+      this.yy = (view.yx*xy) + (view.yy*yy);
+    } else {
+      this.base = base;
+      this.originX = originX;
+      this.originY = originY;
+      this.xx = xx;
+      this.xy = xy;
+      this.yx = yx;
+      this.yy = yy;
+    }
+  }
+
+  /**
+   * A method used to get a view of a rectangular window of the given grid.
+   * The walls and corners at the border of the window are part of the view.
+   *
+   * @param <T>     type of the main storage values
+   * @param <W>     type of the wall values
+   * @param <C>     type of the corner values
+   * @param base    grid that is viewed
+   * @param x       x coordinate of the upper left cell of the window
+   * @param y       y coordinate of the upper left cell of the window
+   * @param width   width of the window
+   * @param height  height of the window
+   * @return        view of the window
+   *
+   * @throws IndexOutOfBoundsException if the window is not inside of the grid or is empty
+   */
+  public static <T,W,C> GridView<T,W,C> window(Grid<T,W> base, int x, int y, int width, int height) {
+    Objects.checkFromIndexSize(x, width, base.getWidth());
+    Objects.checkFromIndexSize(y, height, base.getHeight());
+    if (width < 1 || height < 1) {
+      throw new IndexOutOfBoundsException("cannot view a window of size " + width + "/" + height + ". Must be minimum 1.");
+    }
+    return new GridView<>(base, width, height, x*2, y*2, 1, 0, 0, 1);
+  }
+
+  /**
+   * A method used to get a view of the given grid with x and y swapped.
+   * The upper wall of a cell in the view is its left wall in the grid.
+   *
+   * @param <T>   type of the main storage values
+   * @param <W>   type of the wall values
+   * @param <C>   type of the corner values
+   * @param base  grid that is viewed
+   * @return      transposed view
+   */
+  public static <T,W,C> GridView<T,W,C> transpose(Grid<T,W> base) {
+    return new GridView<>(base, base.getHeight(), base.getWidth(), 0, 0, 0, 1, 1, 0);
+  }
+
+  /**
+   * A method used to get a view of the given grid rotated by 90 degrees clockwise.
+   *
+   * @param <T>   type of the main storage values
+   * @param <W>   type of the wall values
+   * @param <C>   type of the corner values
+   * @param base  grid that is viewed
+   * @return      rotated view
+   */
+  public static <T,W,C> GridView<T,W,C> rotate90(Grid<T,W> base) {
+    return new GridView<>(base, base.getHeight(), base.getWidth(), 0, base.getHeight()*2, 0, 1, -1, 0);
+  }
+
+  /**
+   * A method used to get a view of the given grid rotated by 180 degrees.
+   *
+   * @param <T>   type of the main storage values
+   * @param <W>   type of the wall values
+   * @param <C>   type of the corner values
+   * @param base  grid that is viewed
+   * @return      rotated view
+   */
+  public static <T,W,C> GridView<T,W,C> rotate180(Grid<T,W> base) {
+    return new GridView<>(base, base.getWidth(), base.getHeight(), base.getWidth()*2, base.getHeight()*2, -1, 0, 0, -1);
+  }
+
+  /**
+   * A method used to get a view of the given grid rotated by 270 degrees clockwise.
+   *
+   * @param <T>   type of the main storage values
+   * @param <W>   type of the wall values
+   * @param <C>   type of the corner values
+   * @param base  grid that is viewed
+   * @return      rotated view
+   */
+  public static <T,W,C> GridView<T,W,C> rotate270(Grid<T,W> base) {
+    return new GridView<>(base, base.getHeight(), base.getWidth(), base.getWidth()*2, 0, 0, -1, 1, 0);
+  }
+
+  /**
+   * A method used to get a view of the given grid mirrored from left to right.
+   *
+   * @param <T>   type of the main storage values
+   * @param <W>   type of the wall values
+   * @param <C>   type of the corner values
+   * @param base  grid that is viewed
+   * @return      mirrored view
+   */
+  public static <T,W,C> GridView<T,W,C> mirrorHorizontal(Grid<T,W> base) {
+    return new GridView<>(base, base.getWidth(), base.getHeight(), base.getWidth()*2, 0, -1, 0, 0, 1);
+  }
+
+  /**
+   * A method used to get a view of the given grid mirrored from top to bottom.
+   *
+   * @param <T>   type of the main storage values
+   * @param <W>   type of the wall values
+   * @param <C>   type of the corner values
+   * @param base  grid that is viewed
+   * @return      mirrored view
+   */
+  public static <T,W,C> GridView<T,W,C> mirrorVertical(Grid<T,W> base) {
+    return new GridView<>(base, base.getWidth(), base.getHeight(), 0, base.getHeight()*2, 1, 0, 0, -1);
+  }
+
+  /**
+   * Returns the cell value of the given coordinates.
+   *
+   * @param x x coordinate of cell
+   * @param y y coordinate of cell
+   * @return  value of the cell
+   */
+  @Override
+  @SuppressWarnings("unchecked")
+  public T get(int x, int y) {
+    return (T) super.get(x, y);
+  }
+
+  /**
+   * A method used to get the wall in the given direction relative to the cell at the given coordinates.
+   *
+   * @param x         x coordinate of the cell
+   * @param y         y coordinate of the cell
+   * @param direction direction of the wall relative to cell
+   * @return          value of the wall in the direction relative to the cell
+   */
+  @Override
+  @SuppressWarnings("unchecked")
+  public W getWall(int x, int y, Direction direction) {
+    return (W) super.getWall(x, y, direction);
+  }
+
+  /**
+   * A method used to get the value of the corner at the given coordinates.
+   * Corner coordinates are equal to their lower-right cells coordinates.
+   *
+   * @param x x coordinate of the corner
+   * @param y y coordinate of the corner
+   * @return  value of the corner
+   */
+  @Override
+  @SuppressWarnings("unchecked")
+  public C getCorner(int x, int y) {
+    return (C) super.getCorner(x, y);
+  }
+
+  @Override
+  protected Object load(int x, int y) {
+    checkIndex(x, y);
+    return base.getObject(originX + (xx*x) + (xy*y), originY + (yx*x) + (yy*y));
+  }
+
+  @Override
+  protected void store(int x, int y, Object value) {
+    checkIndex(x, y);
+    base.setObject(originX + (xx*x) + (xy*y), originY + (yx*x) + (yy*y), value);
+  }
+
+  private void checkIndex(int x, int y) {
+    Objects.checkIndex(x, convert(width));
+    Objects.checkIndex(y, convert(height));
+  }
+
+  /**
+   * getter
+   *
+   * @return  grid that is viewed
+   */
+  public Grid<?,?> getBase() {
+    return base;
+  }
+}
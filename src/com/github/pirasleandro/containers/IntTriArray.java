@@ -0,0 +1,163 @@
+package com.github.pirasleandro.containers;
+
+import java.util.Arrays;
+
+/**
+ * @author Leandro Piras
+ * @version 1.1
+ *
+ * Primitive sibling of {@link com.github.pirasleandro.containers.TriArray} storing one int per slot
+ * in one packed int[] of size*size values instead of boxed values.
+ *
+ * @see com.github.pirasleandro.containers.AbstractTriArray
+ */
+public class IntTriArray extends AbstractTriArray {
+  /**
+   * int[] where all values will be stored in.
+   */
+  protected final int[] array;
+
+  /**
+   * A basic constructor. All values will be 0.
+   *
+   * @param size  size of the triangle
+   *
+   * @throws IllegalArgumentException if the size is smaller than 1
+   */
+  public IntTriArray(int size) {
+    super(size);
+    this.array = new int[size*size];
+  }
+
+  /**
+   * A constructor that additionally sets all slots to the given default value.
+   *
+   * @param size          size of the triangle
+   * @param defaultValue  value that all slots will be set to
+   *
+   * @see com.github.pirasleandro.containers.IntTriArray#fill(int)
+   */
+  public IntTriArray(int size, int defaultValue) {
+    this(size);
+    fill(defaultValue);
+  }
+
+  /**
+   * A constructor copying all values of the given IntTriArray.
+   *
+   * @param triArray  IntTriArray to be copied
+   */
+  public IntTriArray(IntTriArray triArray) {
+    this(triArray.size);
+    copyFrom(triArray);
+  }
+
+  /**
+   * A method used to set all slots to the given default value.
+   *
+   * @param defaultValue  value that all slots will be set to
+   */
+  public void fill(int defaultValue) {
+    Arrays.fill(array, defaultValue);
+  }
+
+  /**
+   * A method used to set all slots of the given row to the given value.
+   *
+   * @param y     y coordinate of the row
+   * @param value value that the slots will be set to
+   */
+  public void fillRow(int y, int value) {
+    int from = rowStart(y);
+    Arrays.fill(array, from, from+rowLength(y), value);
+  }
+
+  /**
+   * A method used to copy all values of the given IntTriArray of the same size into this.
+   *
+   * @param triArray  IntTriArray to be copied
+   *
+   * @throws IllegalArgumentException if the sizes are not equal
+   */
+  public void copyFrom(IntTriArray triArray) {
+    checkSize(triArray);
+    System.arraycopy(triArray.array, 0, array, 0, array.length);
+  }
+
+  /**
+   * Returns the value of the given slot of the cell at the given coordinates.
+   *
+   * @param x     x coordinate of the cell
+   * @param y     y coordinate of the cell
+   * @param slot  slot of the cell
+   * @return      value of the slot
+   *
+   * @throws IndexOutOfBoundsException if the coordinates are not valid
+   */
+  public int getInt(int x, int y, Slot slot) {
+    return array[index(x, y, slot)];
+  }
+
+  /**
+   * Returns the value of the slot at the given index.
+   *
+   * @param index index of the slot
+   * @return      value of the slot
+   *
+   * @see com.github.pirasleandro.containers.AbstractTriArray#index(int, int, Slot)
+   */
+  public int getInt(int index) {
+    return array[index];
+  }
+
+  /**
+   * A method used to set the value of the given slot of the cell at the given coordinates.
+   *
+   * @param x     x coordinate of the cell
+   * @param y     y coordinate of the cell
+   * @param slot  slot of the cell
+   * @param value value the slot will be set to
+   *
+   * @throws IndexOutOfBoundsException if the coordinates are not valid
+   */
+  public void set(int x, int y, Slot slot, int value) {
+    array[index(x, y, slot)] = value;
+  }
+
+  /**
+   * A method used to set the value of the slot at the given index.
+   *
+   * @param index index of the slot
+   * @param value value the slot will be set to
+   *
+   * @see com.github.pirasleandro.containers.AbstractTriArray#index(int, int, Slot)
+   */
+  public void set(int index, int value) {
+    array[index] = value;
+  }
+
+  /**
+   * A method used to add the given value to the given slot of the cell at the given coordinates,
+   * like counting the mines around a slot.
+   *
+   * @param x     x coordinate of the cell
+   * @param y     y coordinate of the cell
+   * @param slot  slot of the cell
+   * @param delta value that will be added
+   * @return      new value of the slot
+   *
+   * @throws IndexOutOfBoundsException if the coordinates are not valid
+   */
+  public int add(int x, int y, Slot slot, int delta) {
+    return array[index(x, y, slot)] += delta;
+  }
+
+  /**
+   * Returns the packed array backing the IntTriArray. Changes to the array are visible in the IntTriArray.
+   *
+   * @return  int[] array
+   */
+  public int[] toArray() {
+    return array;
+  }
+}
@@ -0,0 +1,259 @@
+package com.github.pirasleandro.containers;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * @author Leandro Piras
+ * @version 1.1
+ *
+ * Extends OffHeapGrid to store all values in a memory-mapped file. Opening a file only maps it,
+ * the values are paged in by the operating system when they are first read.
+ * The file starts with a header of {@value #HEADER_BYTES} bytes, followed by the planes in the order
+ * cells, horizontal walls, vertical walls, corners. All numbers are little-endian.
+ * <pre>
+ * offset  size  content
+ * 0       8     magic bytes "LUGRID\0\0"
+ * 8       4     version
+ * 12      4     width
+ * 16      4     height
+ * 20      12    cell codec   (4 bytes size, 8 bytes FNV-1a hash of the UTF-8 name)
+ * 32      12    wall codec
+ * 44      12    corner codec
+ * </pre>
+ * The codecs given when opening a file must have the same names and sizes as the ones recorded in the header.
+ * Only a hash of every name is stored, so names of any length fit into the header.
+ *
+ * @see com.github.pirasleandro.containers.OffHeapGrid
+ *
+ * @param T type of the main storage values
+ * @param W type of the wall values
+ * @param C type of the corner values
+ */
+public class MappedGrid<T,W,C> extends OffHeapGrid<T,W,C> {
+  /**
+   * Amount of bytes of the file header.
+   */
+  public static final int HEADER_BYTES = 128;
+  /**
+   * Version of the file format written by this class.
+   */
+  public static final int VERSION = 2;
+  private static final byte[] MAGIC = {'L', 'U', 'G', 'R', 'I', 'D', 0, 0};
+  private final MapMode mode;
+
+  private MappedGrid(int width, int height, GridCodec<T> cellCodec, GridCodec<W> wallCodec, GridCodec<C> cornerCodec, OffHeapStore[] planes, MapMode mode) {
+    super(width, height, cellCodec, wallCodec, cornerCodec, planes);
+    this.mode = mode;
+  }
+
+  /**
+   * A method used to create a new grid file and map it read-write.
+   * An existing file is overwritten. All values will be decoded from zeroed bytes.
+   *
+   * @param <T>         type of the main storage values
+   * @param <W>         type of the wall values
+   * @param <C>         type of the corner values
+   * @param file        path of the file
+   * @param width       width of the grid
+   * @param height      height of the grid
+   * @param cellCodec   codec of the cell values
+   * @param wallCodec   codec of the wall values
+   * @param cornerCodec codec of the corner values
+   * @return            grid mapped to the new file
+   *
+   * @throws IOException              if the file can't be written
+   * @throws IllegalArgumentException if the width or height is smaller than 1
+   */
+  public static <T,W,C> MappedGrid<T,W,C> create(Path file, int width, int height, GridCodec<T> cellCodec, GridCodec<W> wallCodec, GridCodec<C> cornerCodec) throws IOException {
+    if (width < 1 || height < 1) {
+      throw new IllegalArgumentException("cannot invoke a grid of size " + width + "/" + height + ". Must be minimum 1.");
+    }
+    ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+    header.put(MAGIC).putInt(VERSION).putInt(width).putInt(height);
+    putCodec(header, cellCodec);
+    putCodec(header, wallCodec);
+    putCodec(header, cornerCodec);
+    header.clear();
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+      channel.write(header, 0);
+      OffHeapStore[] planes = map(channel, MapMode.READ_WRITE, width, height, cellCodec, wallCodec, cornerCodec);
+      return new MappedGrid<>(width, height, cellCodec, wallCodec, cornerCodec, planes, MapMode.READ_WRITE);
+    }
+  }
+
+  /**
+   * A method used to map an existing grid file.
+   *
+   * @param <T>         type of the main storage values
+   * @param <W>         type of the wall values
+   * @param <C>         type of the corner values
+   * @param file        path of the file
+   * @param mode        {@link java.nio.channels.FileChannel.MapMode#READ_ONLY} or {@link java.nio.channels.FileChannel.MapMode#READ_WRITE}
+   * @param cellCodec   codec of the cell values
+   * @param wallCodec   codec of the wall values
+   * @param cornerCodec codec of the corner values
+   * @return            grid mapped to the file
+   *
+   * @throws IOException              if the file can't be read, is not a grid file or was written with other codecs
+   * @throws IllegalArgumentException if the mode is neither READ_ONLY nor READ_WRITE
+   */
+  public static <T,W,C> MappedGrid<T,W,C> open(Path file, MapMode mode, GridCodec<T> cellCodec, GridCodec<W> wallCodec, GridCodec<C> cornerCodec) throws IOException {
+    boolean writable;
+    if (mode == MapMode.READ_ONLY) {
+      writable = false;
+    } else if (mode == MapMode.READ_WRITE) {
+      writable = true;
+    } else {
+      throw new IllegalArgumentException("the mode " + mode + " is not supported");
+    }
+    try (FileChannel channel = (writable
+        ? FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)
+        : FileChannel.open(file, StandardOpenOption.READ))) {
+      ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+      while (header.hasRemaining()) {
+        if (channel.read(header, header.position()) < 0) {
+          throw new IOException(file + " is too short to be a grid file");
+        }
+      }
+      header.flip();
+      byte[] magic = new byte[MAGIC.length];
+      header.get(magic);
+      if (!Arrays.equals(magic, MAGIC)) {
+        throw new IOException(file + " is not a grid file");
+      }
+      int version = header.getInt();
+      if (version != VERSION) {
+        throw new IOException(file + " has version " + version + ", only version " + VERSION + " is supported");
+      }
+      int width = header.getInt();
+      int height = header.getInt();
+      if (width < 1 || height < 1) {
+        throw new IOException(file + " has the invalid size " + width + "/" + height);
+      }
+      checkCodec(file, header, cellCodec);
+      checkCodec(file, header, wallCodec);
+      checkCodec(file, header, cornerCodec);
+      long expected = HEADER_BYTES + fileBytes(width, height, cellCodec, wallCodec, cornerCodec);
+      if (channel.size() < expected) {
+        throw new IOException(file + " is truncated, has " + channel.size() + " bytes, expected " + expected);
+      }
+      OffHeapStore[] planes = map(channel, mode, width, height, cellCodec, wallCodec, cornerCodec);
+      return new MappedGrid<>(width, height, cellCodec, wallCodec, cornerCodec, planes, mode);
+    }
+  }
+
+  /**
+   * A method used to save a grid to a file. All values are copied, corners included.
+   * The corners of a {@link com.github.pirasleandro.containers.Grid} are null, so the corner codec must be able to store null.
+   * An existing file is overwritten.
+   *
+   * @param <T>         type of the main storage values
+   * @param <W>         type of the wall values
+   * @param <C>         type of the corner values
+   * @param grid        grid to be saved
+   * @param file        path of the file
+   * @param cellCodec   codec of the cell values
+   * @param wallCodec   codec of the wall values
+   * @param cornerCodec codec of the corner values
+   *
+   * @throws IOException  if the file can't be written
+   *
+   * @see com.github.pirasleandro.containers.MappedGrid#open(Path, MapMode, GridCodec, GridCodec, GridCodec)
+   */
+  public static <T,W,C> void save(Grid<T,W> grid, Path file, GridCodec<T> cellCodec, GridCodec<W> wallCodec, GridCodec<C> cornerCodec) throws IOException {
+    try (MappedGrid<T,W,C> target = create(file, grid.getWidth(), grid.getHeight(), cellCodec, wallCodec, cornerCodec)) {
+      int rows = convert(grid.getHeight());
+      int cols = convert(grid.getWidth());
+      for (int y = 0; y < rows; y++) {
+        for (int x = 0; x < cols; x++) {
+          target.setObject(x, y, grid.getObject(x, y));
+        }
+      }
+      target.force();
+    }
+  }
+
+  private static void putCodec(ByteBuffer header, GridCodec<?> codec) {
+    header.putInt(codec.size());
+    header.putLong(nameHash(codec));
+  }
+
+  private static void checkCodec(Path file, ByteBuffer header, GridCodec<?> codec) throws IOException {
+    int size = header.getInt();
+    long hash = header.getLong();
+    if (size != codec.size() || hash != nameHash(codec)) {
+      throw new IOException(file + " was written with another codec than " + codec.name() + "/" + codec.size()
+        + ", the header holds a codec of size " + size + " with the name hash " + Long.toHexString(hash));
+    }
+  }
+
+  /**
+   * A method used to get the 64-bit FNV-1a hash of the UTF-8 name of the given codec,
+   * which doesn't depend on the JVM the file was written with.
+   */
+  private static long nameHash(GridCodec<?> codec) {
+    long hash = 0xCBF29CE484222325L;
+    for (byte b : codec.name().getBytes(StandardCharsets.UTF_8)) {
+      hash ^= (b & 0xFF);
+      hash *= 0x100000001B3L;
+    }
+    return hash;
+  }
+
+  private static long fileBytes(int width, int height, GridCodec<?> cellCodec, GridCodec<?> wallCodec, GridCodec<?> cornerCodec) {
+    long[] lengths = planeLengths(width, height);
+    return (lengths[0]*cellCodec.size()) + ((lengths[1]+lengths[2])*wallCodec.size()) + (lengths[3]*cornerCodec.size());
+  }
+
+  private static OffHeapStore[] map(FileChannel channel, MapMode mode, int width, int height, GridCodec<?> cellCodec, GridCodec<?> wallCodec, GridCodec<?> cornerCodec) throws IOException {
+    long[] lengths = planeLengths(width, height);
+    int[] sizes = {cellCodec.size(), wallCodec.size(), wallCodec.size(), cornerCodec.size()};
+    OffHeapStore[] planes = new OffHeapStore[lengths.length];
+    long position = HEADER_BYTES;
+    for (int p = 0; p < planes.length; p++) {
+      ByteBuffer[] segments = new ByteBuffer[OffHeapStore.segmentCount(lengths[p], sizes[p])];
+      for (int i = 0; i < segments.length; i++) {
+        int bytes = OffHeapStore.segmentBytes(lengths[p], sizes[p], i);
+        segments[i] = channel.map(mode, position, bytes);
+        position += bytes;
+      }
+      planes[p] = new OffHeapStore(segments, lengths[p], sizes[p]);
+    }
+    return planes;
+  }
+
+  /**
+   * A method used to write all changes to the file. Has no effect if the file is mapped read-only.
+   */
+  public void force() {
+    if (mode != MapMode.READ_WRITE) {
+      return;
+    }
+    for (OffHeapStore plane : planes()) {
+      for (ByteBuffer segment : plane.segments()) {
+        ((MappedByteBuffer) segment).force();
+      }
+    }
+  }
+
+  /**
+   * A method used to determine if the file was mapped read-only.
+   * Every change to a grid of a read-only file throws a {@link java.nio.ReadOnlyBufferException}.
+   * Not to be confused with {@link com.github.pirasleandro.containers.Grid#isReadOnly()},
+   * which tells if the grid is a snapshot.
+   *
+   * @return  true if the file is mapped read-only, false if it's not
+   */
+  public boolean isFileReadOnly() {
+    return mode == MapMode.READ_ONLY;
+  }
+}
@@ -0,0 +1,296 @@
+package com.github.pirasleandro.containers;
+
+import java.util.Objects;
+
+/**
+ * @author Leandro Piras
+ * @version 1.1
+ *
+ * Extends AdvGrid to store all values outside of the heap, encoded with a fixed-width
+ * {@link com.github.pirasleandro.containers.GridCodec} per value type.
+ * Like {@link com.github.pirasleandro.containers.PlanarGrid} the cells, horizontal walls, vertical walls and
+ * corners are stored in separate planes, which are indexed with longs so the grid may hold more values
+ * than an array could.
+ * The grid should be closed once it's not used anymore, every access after {@link #close()} throws an
+ * IllegalStateException. Java offers no way to free a direct or mapped buffer on demand, so the memory is
+ * only released once the garbage collector has collected the buffers.
+ *
+ * @see com.github.pirasleandro.containers.AdvGrid
+ *
+ * @param T type of the main storage values
+ * @param W type of the wall values
+ * @param C type of the corner values
+ */
+public class OffHeapGrid<T,W,C> extends AdvGrid<T,W,C> implements AutoCloseable {
+  // codecs used to encode the cell, wall and corner values
+  protected final GridCodec<T> cellCodec;
+  protected final GridCodec<W> wallCodec;
+  protected final GridCodec<C> cornerCodec;
+  // planes of the cells, horizontal walls, vertical walls and corners, null once closed
+  private OffHeapStore cells, hWalls, vWalls, corners;
+
+  /**
+   * A basic constructor. All values will be decoded from zeroed bytes.
+   *
+   * @param width       width of the grid
+   * @param height      height of the grid
+   * @param cellCodec   codec of the cell values
+   * @param wallCodec   codec of the wall values
+   * @param cornerCodec codec of the corner values
+   */
+  public OffHeapGrid(int width, int height, GridCodec<T> cellCodec, GridCodec<W> wallCodec, GridCodec<C> cornerCodec) {
+    this(width, height, cellCodec, wallCodec, cornerCodec, allocatePlanes(width, height, cellCodec, wallCodec, cornerCodec));
+  }
+
+  /**
+   * A constructor that additionally sets all values of the grid to the given default values.
+   *
+   * @param width         width of the grid
+   * @param height        height of the grid
+   * @param cellCodec     codec of the cell values
+   * @param wallCodec     codec of the wall values
+   * @param cornerCodec   codec of the corner values
+   * @param defaultCell   value that all cells will be set to
+   * @param defaultWall   value that all walls will be set to
+   * @param defaultCorner value that all corners will be set to
+   *
+   * @see com.github.pirasleandro.containers.OffHeapGrid#fill(Object, Object, Object)
+   */
+  public OffHeapGrid(int width, int height, GridCodec<T> cellCodec, GridCodec<W> wallCodec, GridCodec<C> cornerCodec, T defaultCell, W defaultWall, C defaultCorner) {
+    this(width, height, cellCodec, wallCodec, cornerCodec);
+    fill(defaultCell, defaultWall, defaultCorner);
+  }
+
+  /**
+   * A constructor used by subclasses that provide the planes themselves.
+   * The planes must be given in the order cells, horizontal walls, vertical walls, corners.
+   *
+   * @param width       width of the grid
+   * @param height      height of the grid
+   * @param cellCodec   codec of the cell values
+   * @param wallCodec   codec of the wall values
+   * @param cornerCodec codec of the corner values
+   * @param planes      the four planes
+   *
+   * @throws IllegalArgumentException if the width or height is smaller than 1
+   */
+  protected OffHeapGrid(int width, int height, GridCodec<T> cellCodec, GridCodec<W> wallCodec, GridCodec<C> cornerCodec, OffHeapStore[] planes) {
+    super(width, height, null);
+    if (width < 1 || height < 1) {
+      throw new IllegalArgumentException("cannot invoke a grid of size " + width + "/" + height + ". Must be minimum 1.");
+    }
+    this.cellCodec = cellCodec;
+    this.wallCodec = wallCodec;
+    this.cornerCodec = cornerCodec;
+    this.cells = planes[0];
+    this.hWalls = planes[1];
+    this.vWalls = planes[2];
+    this.corners = planes[3];
+  }
+
+  /**
+   * A method used to get the amount of values of the planes of a grid with the given size,
+   * in the order cells, horizontal walls, vertical walls, corners.
+   *
+   * @param width   width of the grid
+   * @param height  height of the grid
+   * @return        long[] with the lengths of the four planes
+   */
+  static long[] planeLengths(int width, int height) {
+    return new long[] {
+      (long) width*height,
+      (long) width*(height+1),
+      (long) (width+1)*height,
+      (long) (width+1)*(height+1)
+    };
+  }
+
+  private static OffHeapStore[] allocatePlanes(int width, int height, GridCodec<?> cellCodec, GridCodec<?> wallCodec, GridCodec<?> cornerCodec) {
+    long[] lengths = planeLengths(width, height);
+    return new OffHeapStore[] {
+      OffHeapStore.allocateDirect(lengths[0], cellCodec.size()),
+      OffHeapStore.allocateDirect(lengths[1], wallCodec.size()),
+      OffHeapStore.allocateDirect(lengths[2], wallCodec.size()),
+      OffHeapStore.allocateDirect(lengths[3], cornerCodec.size())
+    };
+  }
+
+  /**
+   * A method used to set all values of the grid to the given default values.
+   * Every plane is filled at once.
+   *
+   * @param defaultCell   value that all cells will be set to
+   * @param defaultWall   value that all walls will be set to
+   * @param defaultCorner value that all corners will be set to
+   */
+  @Override
+  public void fill(T defaultCell, W defaultWall, C defaultCorner) {
+    ensureOpen();
+    cells.fill(cellCodec, defaultCell);
+    hWalls.fill(wallCodec, defaultWall);
+    vWalls.fill(wallCodec, defaultWall);
+    corners.fill(cornerCodec, defaultCorner);
+    allChanged();
+  }
+
+  /**
+   * A method used to set all cell and wall values to the given default values.
+   * Unlike {@link com.github.pirasleandro.containers.AdvGrid#fill(Object, Object)} the corners are left
+   * untouched, since most codecs cannot encode null.
+   *
+   * @param defaultCell value that all cells will be set to
+   * @param defaultWall value that all walls will be set to
+   */
+  @Override
+  public void fill(T defaultCell, W defaultWall) {
+    ensureOpen();
+    cells.fill(cellCodec, defaultCell);
+    hWalls.fill(wallCodec, defaultWall);
+    vWalls.fill(wallCodec, defaultWall);
+    allChanged();
+  }
+
+  /**
+   * Returns the cell value of the given coordinates.
+   *
+   * @param x x coordinate of cell
+   * @param y y coordinate of cell
+   * @return  value of the cell
+   */
+  @Override
+  public T get(int x, int y) {
+    ensureOpen();
+    Objects.checkIndex(x, width);
+    Objects.checkIndex(y, height);
+    return cells.read(cellCodec, ((long) y*width)+x);
+  }
+
+  /**
+   * A method used to get the wall in the given direction relative to the cell at the given coordinates.
+   *
+   * @param x         x coordinate of the cell
+   * @param y         y coordinate of the cell
+   * @param direction direction of the wall relative to cell
+   * @return          value of the wall in the direction relative to the cell
+   */
+  @Override
+  public W getWall(int x, int y, Direction direction) {
+    ensureOpen();
+    Objects.checkIndex(x, width);
+    Objects.checkIndex(y, height);
+    switch (direction) {
+      case UP: return hWalls.read(wallCodec, ((long) y*width)+x);
+      case DOWN: return hWalls.read(wallCodec, ((long) (y+1)*width)+x);
+      case LEFT: return vWalls.read(wallCodec, ((long) y*(width+1))+x);
+      case RIGHT: return vWalls.read(wallCodec, ((long) y*(width+1))+x+1);
+      default: throw new EnumConstantNotPresentException(Direction.class, direction.toString());
+    }
+  }
+
+  /**
+   * A method used to get the value of the corner at the given coordinates.
+   * Corner coordinates are equal to their lower-right cells coordinates.
+   *
+   * @param x x coordinate of the corner
+   * @param y y coordinate of the corner
+   * @return  value of the corner
+   */
+  @Override
+  public C getCorner(int x, int y) {
+    ensureOpen();
+    Objects.checkIndex(x, width+1);
+    Objects.checkIndex(y, height+1);
+    return corners.read(cornerCodec, ((long) y*(width+1))+x);
+  }
+
+  @Override
+  protected Object load(int x, int y) {
+    ensureOpen();
+    long index = planeIndex(x, y);
+    if (y%2 == 1) {
+      return (x%2 == 1 ? cells.read(cellCodec, index) : vWalls.read(wallCodec, index));
+    } else {
+      return (x%2 == 1 ? hWalls.read(wallCodec, index) : corners.read(cornerCodec, index));
+    }
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  protected void store(int x, int y, Object value) {
+    ensureOpen();
+    long index = planeIndex(x, y);
+    if (y%2 == 1) {
+      if (x%2 == 1) {
+        cells.write(cellCodec, index, (T) value);
+      } else {
+        vWalls.write(wallCodec, index, (W) value);
+      }
+    } else {
+      if (x%2 == 1) {
+        hWalls.write(wallCodec, index, (W) value);
+      } else {
+        corners.write(cornerCodec, index, (C) value);
+      }
+    }
+  }
+
+  /**
+   * A method used to convert gridArray coordinates to the index in the plane the Object belongs to.
+   *
+   * @param x x coordinate in the gridArray
+   * @param y y coordinate in the gridArray
+   * @return  index in the plane
+   *
+   * @throws IndexOutOfBoundsException if the coordinates are outside of the gridArray
+   */
+  private long planeIndex(int x, int y) {
+    Objects.checkIndex(x, convert(width));
+    Objects.checkIndex(y, convert(height));
+    int planeWidth = (x%2 == 1 ? width : width+1);
+    return ((long) (y/2)*planeWidth) + (x/2);
+  }
+
+  /**
+   * A method used to check that the grid has not been closed yet.
+   *
+   * @throws IllegalStateException if the grid has been closed
+   */
+  protected void ensureOpen() {
+    if (cells == null) {
+      throw new IllegalStateException("the grid has already been closed");
+    }
+  }
+
+  /**
+   * A method used to get the planes in the order cells, horizontal walls, vertical walls, corners.
+   *
+   * @return  the four planes
+   */
+  OffHeapStore[] planes() {
+    ensureOpen();
+    return new OffHeapStore[] {cells, hWalls, vWalls, corners};
+  }
+
+  /**
+   * A method used to determine if the grid has been closed.
+   *
+   * @return  true if it's closed, false if it's not
+   */
+  public boolean isClosed() {
+    return cells == null;
+  }
+
+  /**
+   * A method used to close the grid. The grid drops its references to the buffers and every further access
+   * throws an IllegalStateException. The memory itself is not freed right away, it's released once the
+   * buffers have been collected and no other references, like views of subclasses, are left.
+   * Closing an already closed grid has no effect.
+   */
+  @Override
+  public void close() {
+    cells = null;
+    hWalls = null;
+    vWalls = null;
+    corners = null;
+  }
+}
@@ -0,0 +1,165 @@
+package com.github.pirasleandro.containers;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+/**
+ * @author Leandro Piras
+ * @version 1.1
+ *
+ * Long-indexed array of fixed-width values stored in ByteBuffers outside of the heap.
+ * The values are split into segments of at most 1 GiB so stores can be bigger than a single buffer.
+ * A value never spans two segments.
+ *
+ * @see com.github.pirasleandro.containers.GridCodec
+ */
+class OffHeapStore {
+  // maximum amount of bytes of one segment
+  static final int MAX_SEGMENT_BYTES = 1 << 30;
+  private final ByteBuffer[] segments;
+  // amount of bytes of one value
+  private final int size;
+  // log2 of the amount of values per segment
+  private final int shift;
+  private final long mask;
+  private final long length;
+
+  /**
+   * A constructor wrapping already allocated segments.
+   * The segments must be laid out like {@link #segmentBytes(long, int, int)} describes.
+   *
+   * @param segments  segments the values are stored in
+   * @param length    amount of values
+   * @param size      amount of bytes of one value
+   */
+  OffHeapStore(ByteBuffer[] segments, long length, int size) {
+    this.segments = segments;
+    this.length = length;
+    this.size = size;
+    this.shift = valuesPerSegmentShift(size);
+    this.mask = (1L << shift) - 1;
+    for (ByteBuffer segment : segments) {
+      segment.order(ByteOrder.LITTLE_ENDIAN);
+    }
+  }
+
+  /**
+   * A method used to allocate a store with direct buffers. All bytes will be 0.
+   *
+   * @param length  amount of values
+   * @param size    amount of bytes of one value
+   * @return        new store
+   */
+  static OffHeapStore allocateDirect(long length, int size) {
+    ByteBuffer[] segments = new ByteBuffer[segmentCount(length, size)];
+    for (int i = 0; i < segments.length; i++) {
+      segments[i] = ByteBuffer.allocateDirect(segmentBytes(length, size, i));
+    }
+    return new OffHeapStore(segments, length, size);
+  }
+
+  /**
+   * A method used to get the log2 of the amount of values per segment.
+   *
+   * @param size  amount of bytes of one value
+   * @return      log2 of the values per segment
+   */
+  private static int valuesPerSegmentShift(int size) {
+    return 31 - Integer.numberOfLeadingZeros(MAX_SEGMENT_BYTES / size);
+  }
+
+  /**
+   * A method used to get the amount of segments a store with the given length needs.
+   *
+   * @param length  amount of values
+   * @param size    amount of bytes of one value
+   * @return        amount of segments
+   */
+  static int segmentCount(long length, int size) {
+    long perSegment = 1L << valuesPerSegmentShift(size);
+    return (int) Math.max(1, (length + perSegment - 1) / perSegment);
+  }
+
+  /**
+   * A method used to get the amount of bytes of the segment at the given index.
+   *
+   * @param length  amount of values
+   * @param size    amount of bytes of one value
+   * @param segment index of the segment
+   * @return        amount of bytes of the segment
+   */
+  static int segmentBytes(long length, int size, int segment) {
+    long perSegment = 1L << valuesPerSegmentShift(size);
+    long values = Math.min(perSegment, length - (segment*perSegment));
+    return (int) (Math.max(0, values) * size);
+  }
+
+  /**
+   * A method used to read the value at the given index.
+   *
+   * @param <V>   type of the value
+   * @param codec codec used to decode the value
+   * @param index index of the value
+   * @return      decoded value
+   */
+  <V> V read(GridCodec<V> codec, long index) {
+    Objects.checkIndex(index, length);
+    return codec.read(segments[(int) (index >>> shift)], (int) (index & mask) * size);
+  }
+
+  /**
+   * A method used to write the value at the given index.
+   *
+   * @param <V>   type of the value
+   * @param codec codec used to encode the value
+   * @param index index of the value
+   * @param value value to be written
+   */
+  <V> void write(GridCodec<V> codec, long index, V value) {
+    Objects.checkIndex(index, length);
+    codec.write(segments[(int) (index >>> shift)], (int) (index & mask) * size, value);
+  }
+
+  /**
+   * A method used to set all values to the given value.
+   * The value is encoded once and then copied with doubling block sizes.
+   *
+   * @param <V>   type of the value
+   * @param codec codec used to encode the value
+   * @param value value all values will be set to
+   */
+  <V> void fill(GridCodec<V> codec, V value) {
+    for (ByteBuffer segment : segments) {
+      int bytes = segment.capacity();
+      if (bytes == 0) {
+        continue;
+      }
+      codec.write(segment, 0, value);
+      int filled = size;
+      while (filled < bytes) {
+        int block = Math.min(filled, bytes - filled);
+        segment.put(filled, segment, 0, block);
+        filled += block;
+      }
+    }
+  }
+
+  /**
+   * getter
+   *
+   * @return  amount of values
+   */
+  long length() {
+    return length;
+  }
+
+  /**
+   * getter
+   *
+   * @return  segments the values are stored in
+   */
+  ByteBuffer[] segments() {
+    return segments;
+  }
+}
@@ -0,0 +1,462 @@
+package com.github.pirasleandro.containers;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * @author Leandro Piras
+ * @version 1.1
+ *
+ * Packed sibling of {@link com.github.pirasleandro.containers.TriGrid} storing the slots and walls of the
+ * triangle in two dense arrays instead of a Grid, which is about twice as wide as the triangle.
+ * Slots are numbered row by row, row y holds the 2*y+1 slots from the index y*y on, so the slot at
+ * x/y/slot has the index y*y + 2*x (+1 for slot B). Walls are numbered row by row like
+ * {@link com.github.pirasleandro.containers.TriGrid#walls()}, row y starts at 3*y*(y+1)/2 with the left walls
+ * of its slots, followed by the right wall of its last slot and the lower walls of its slots A.
+ * Every wall is stored once, the upper wall of a slot B is the lower wall of the slot A above it.
+ * It's an opt-in type, the games keep using TriGrid. Slots are addressed like in a TriGrid, by coordinates,
+ * TriPoints or the slot indices of {@link com.github.pirasleandro.containers.TriGrid#indexOf(int, int, Slot)},
+ * and {@link #forEachCell(TriCellVisitor)} replaces the cursor, which walks the gridArray of a TriGrid.
+ *
+ * @see com.github.pirasleandro.containers.TriGrid
+ *
+ * @param T type of normal storage values
+ * @param W type of wall values
+ */
+public class PackedTriGrid<T,W> {
+  private final int size;
+  private final Object[] slots;
+  private final Object[] walls;
+
+  /**
+   * A basic constructor. All values will be null.
+   *
+   * @param size  size of the TriGrid
+   *
+   * @throws IllegalArgumentException if the size is smaller than 1 or too big for an array
+   */
+  public PackedTriGrid(int size) {
+    if (size < 1) {
+      throw new IllegalArgumentException("cannot invoke a TriGrid of size " + size + ". Must be minimum 1.");
+    }
+    if (3L*size*(size+1)/2 > Integer.MAX_VALUE - 8) {
+      throw new IllegalArgumentException("a TriGrid of size " + size + " does not fit into an array.");
+    }
+    this.size = size;
+    this.slots = new Object[size*size];
+    this.walls = new Object[(int) (3L*size*(size+1)/2)];
+  }
+
+  /**
+   * A constructor that additionally sets all values to the given default values.
+   *
+   * @param size        size of the TriGrid
+   * @param defaultCell value all slots will be set to
+   * @param defaultWall value all walls will be set to
+   *
+   * @see com.github.pirasleandro.containers.PackedTriGrid#fill(Object, Object)
+   */
+  public PackedTriGrid(int size, T defaultCell, W defaultWall) {
+    this(size);
+    fill(defaultCell, defaultWall);
+  }
+
+  /**
+   * A constructor copying all slots and walls of the given TriGrid.
+   *
+   * @param triGrid TriGrid to be copied
+   */
+  @SuppressWarnings("unchecked")
+  public PackedTriGrid(TriGrid<T,W> triGrid) {
+    this(triGrid.getSize());
+    for (int y = 0; y < size; y++) {
+      for (int col = 0; col <= y*2; col++) {
+        Slot slot = TriGrid.getSlot(col);
+        int x = col/2;
+        set(x, y, slot, (T) triGrid.get(x, y, slot));
+        setWall(x, y, slot, Direction.LEFT, (W) triGrid.getWall(x, y, slot, Direction.LEFT));
+        setWall(x, y, slot, Direction.RIGHT, (W) triGrid.getWall(x, y, slot, Direction.RIGHT));
+        setWall(x, y, slot, slot.vertDir(), (W) triGrid.getWall(x, y, slot, slot.vertDir()));
+      }
+    }
+  }
+
+  /**
+   * A method used to set all values to the given default values.
+   *
+   * @param defaultCell value all slots will be set to
+   * @param defaultWall value all walls will be set to
+   */
+  public void fill(T defaultCell, W defaultWall) {
+    Arrays.fill(slots, defaultCell);
+    Arrays.fill(walls, defaultWall);
+  }
+
+  /**
+   * A method used to set all values to the given default values.
+   * Same as {@link #fill(Object, Object)}, since there are no slots outside of the triangle to skip.
+   *
+   * @param defaultCell value all slots will be set to
+   * @param defaultWall value all walls will be set to
+   *
+   * @see com.github.pirasleandro.containers.TriGrid#reset(Object, Object)
+   */
+  public void reset(T defaultCell, W defaultWall) {
+    fill(defaultCell, defaultWall);
+  }
+
+  /**
+   * A method used to set the value of the given slot in the cell at the given coordinates.
+   *
+   * @param x     x coordinate of the cell
+   * @param y     y coordinate of the cell
+   * @param slot  slot of the cell
+   * @param value value the slot will be set to
+   *
+   * @throws IndexOutOfBoundsException if the coordinates are not valid
+   */
+  public void set(int x, int y, Slot slot, T value) {
+    slots[slotIndex(x, y, slot)] = value;
+  }
+
+  /**
+   * A method used to set the value of the slot at the given TriPoint.
+   *
+   * @param triPoint  TriPoint of the slot
+   * @param value     value the slot will be set to
+   *
+   * @throws IndexOutOfBoundsException if the coordinates are not valid
+   */
+  public void set(TriPoint triPoint, T value) {
+    set(triPoint.x, triPoint.y, triPoint.slot, value);
+  }
+
+  /**
+   * A method used to set the value of the slot at the given index.
+   *
+   * @param index index of the slot
+   * @param value value the slot will be set to
+   *
+   * @throws IndexOutOfBoundsException if there is no slot with the index
+   *
+   * @see com.github.pirasleandro.containers.TriGrid#indexOf(int, int, Slot)
+   */
+  public void set(int index, T value) {
+    slots[Objects.checkIndex(index, slots.length)] = value;
+  }
+
+  /**
+   * A method used to get the value of the given slot of the cell at the given coordinates.
+   *
+   * @param x     x coordinate of the cell
+   * @param y     y coordinate of the cell
+   * @param slot  slot of the cell
+   * @return      value of the slot
+   *
+   * @throws IndexOutOfBoundsException if the coordinates are not valid
+   */
+  @SuppressWarnings("unchecked")
+  public T get(int x, int y, Slot slot) {
+    return (T) slots[slotIndex(x, y, slot)];
+  }
+
+  /**
+   * A method used to get the value of the slot at the given TriPoint.
+   *
+   * @param point TriPoint of the slot
+   * @return      value of the slot
+   *
+   * @throws IndexOutOfBoundsException if the coordinates are not valid
+   */
+  public T get(TriPoint point) {
+    return get(point.x, point.y, point.slot);
+  }
+
+  /**
+   * A method used to get the value of the slot at the given index.
+   *
+   * @param index index of the slot
+   * @return      value of the slot
+   *
+   * @throws IndexOutOfBoundsException if there is no slot with the index
+   *
+   * @see com.github.pirasleandro.containers.TriGrid#indexOf(int, int, Slot)
+   */
+  @SuppressWarnings("unchecked")
+  public T get(int index) {
+    return (T) slots[Objects.checkIndex(index, slots.length)];
+  }
+
+  /**
+   * A method used to set the value of the wall in the given direction relative to the given slot
+   * of the cell at the given coordinates.
+   *
+   * @param x         x coordinate of the cell
+   * @param y         y coordinate of the cell
+   * @param slot      slot of the cell
+   * @param direction direction from slot to wall
+   * @param value     value the wall will be set to
+   *
+   * @throws IndexOutOfBoundsException if the coordinates are not valid
+   * @throws IllegalArgumentException  if the slot has no wall in the direction
+   */
+  public void setWall(int x, int y, Slot slot, Direction direction, W value) {
+    walls[wallIndex(x, y, slot, direction)] = value;
+  }
+
+  /**
+   * A method used to set the value of the wall in the given direction relative to the slot at the given TriPoint.
+   *
+   * @param triPoint  TriPoint of the slot
+   * @param direction direction from slot to wall
+   * @param value     value the wall will be set to
+   *
+   * @see com.github.pirasleandro.containers.PackedTriGrid#setWall(int, int, Slot, Direction, Object)
+   */
+  public void setWall(TriPoint triPoint, Direction direction, W value) {
+    setWall(triPoint.x, triPoint.y, triPoint.slot, direction, value);
+  }
+
+  /**
+   * A method used to set the values of the walls of the given slot of the cell at the given coordinates
+   * to the given values.
+   *
+   * @param x             x coordinate of the cell
+   * @param y             y coordinate of the cell
+   * @param slot          slot of the cell
+   * @param verticalWall  vertical wall value
+   * @param leftWall      left wall value
+   * @param rightWall     right wall value
+   *
+   * @throws IndexOutOfBoundsException if the coordinates are not valid
+   *
+   * @see com.github.pirasleandro.containers.PackedTriGrid#setWall(int, int, Slot, Direction, Object)
+   */
+  public void setWalls(int x, int y, Slot slot, W verticalWall, W leftWall, W rightWall) {
+    setWall(x, y, slot, slot.vertDir(), verticalWall);
+    setWall(x, y, slot, Direction.LEFT, leftWall);
+    setWall(x, y, slot, Direction.RIGHT, rightWall);
+  }
+
+  /**
+   * A method used to set the values of the walls of the slot at the given TriPoint to the given values.
+   *
+   * @param triPoint      TriPoint of the slot
+   * @param verticalWall  vertical wall value
+   * @param leftWall      left wall value
+   * @param rightWall     right wall value
+   *
+   * @throws IndexOutOfBoundsException if the coordinates are not valid
+   *
+   * @see com.github.pirasleandro.containers.PackedTriGrid#setWalls(int, int, Slot, Object, Object, Object)
+   */
+  public void setWalls(TriPoint triPoint, W verticalWall, W leftWall, W rightWall) {
+    setWalls(triPoint.x, triPoint.y, triPoint.slot, verticalWall, leftWall, rightWall);
+  }
+
+  /**
+   * A method used to set all walls of the given slot of the cell at the given coordinates to the given value.
+   *
+   * @param x           x coordinate of the cell
+   * @param y           y coordinate of the cell
+   * @param slot        slot of the cell
+   * @param defaultWall value all walls will be set to
+   *
+   * @throws IndexOutOfBoundsException if the coordinates are not valid
+   *
+   * @see com.github.pirasleandro.containers.PackedTriGrid#setWalls(int, int, Slot, Object, Object, Object)
+   */
+  public void setWalls(int x, int y, Slot slot, W defaultWall) {
+    setWalls(x, y, slot, defaultWall, defaultWall, defaultWall);
+  }
+
+  /**
+   * A method used to set all walls of the slot at the given TriPoint to the given value.
+   *
+   * @param triPoint    TriPoint of the slot
+   * @param defaultWall value all walls will be set to
+   *
+   * @throws IndexOutOfBoundsException if the coordinates are not valid
+   *
+   * @see com.github.pirasleandro.containers.PackedTriGrid#setWalls(int, int, Slot, Object)
+   */
+  public void setWalls(TriPoint triPoint, W defaultWall) {
+    setWalls(triPoint.x, triPoint.y, triPoint.slot, defaultWall);
+  }
+
+  /**
+   * A method used to get the value of the wall in the given direction relative to the given slot
+   * of the cell at the given coordinates.
+   *
+   * @param x         x coordinate of the cell
+   * @param y         y coordinate of the cell
+   * @param slot      slot of the cell
+   * @param direction direction from slot to wall
+   * @return          value of the wall
+   *
+   * @throws IndexOutOfBoundsException if the coordinates are not valid
+   * @throws IllegalArgumentException  if the slot has no wall in the direction
+   */
+  @SuppressWarnings("unchecked")
+  public W getWall(int x, int y, Slot slot, Direction direction) {
+    return (W) walls[wallIndex(x, y, slot, direction)];
+  }
+
+  /**
+   * A method used to get the value of the wall in the given direction relative to the slot at the given TriPoint.
+   *
+   * @param triPoint  TriPoint of the slot
+   * @param direction direction from slot to wall
+   * @return          value of the wall
+   *
+   * @see com.github.pirasleandro.containers.PackedTriGrid#getWall(int, int, Slot, Direction)
+   */
+  public W getWall(TriPoint triPoint, Direction direction) {
+    return getWall(triPoint.x, triPoint.y, triPoint.slot, direction);
+  }
+
+  /**
+   * A method used to set all walls on the border to the given default value.
+   * Walls count as border if they only have one adjacent cell.
+   *
+   * @param defaultWall value all walls will be set to
+   */
+  public void setBorder(W defaultWall) {
+    for (int i = 0; i < size; i++) {
+      setWall(i, size-1, Slot.A, Direction.DOWN, defaultWall);
+      setWall(0, i, Slot.A, Direction.LEFT, defaultWall);
+      setWall(i, i, Slot.A, Direction.RIGHT, defaultWall);
+    }
+  }
+
+  /**
+   * A method to determine if the given coordinates are valid.
+   * Slots A exist for x from 0 to y, slots B for x from 0 to y-1.
+   *
+   * @param x     x coordinate
+   * @param y     y coordinate
+   * @param slot  slot
+   * @return      true if the coordinates are valid, false if they're not
+   */
+  public boolean areCordsValid(int x, int y, Slot slot) {
+    return (y >= 0 && y < size && x >= 0 && (slot.isA() ? x <= y : x < y));
+  }
+
+  /**
+   * A method used to get a Stream of the values of all slots, in the order of their indices.
+   *
+   * @return  Stream of the slot values
+   */
+  @SuppressWarnings("unchecked")
+  public Stream<T> cells() {
+    return Arrays.stream(slots).map(value -> (T) value);
+  }
+
+  /**
+   * A method used to get a Stream of all wall values, in the order of their indices.
+   *
+   * @return  Stream of the wall values
+   *
+   * @see com.github.pirasleandro.containers.TriGrid#walls()
+   */
+  @SuppressWarnings("unchecked")
+  public Stream<W> walls() {
+    return Arrays.stream(walls).map(value -> (W) value);
+  }
+
+  /**
+   * A method used to visit all slots with their coordinates, row by row from left to right.
+   *
+   * @param visitor visitor called for every slot
+   */
+  @SuppressWarnings("unchecked")
+  public void forEachCell(TriCellVisitor<? super T> visitor) {
+    int index = 0;
+    for (int y = 0; y < size; y++) {
+      for (int col = 0; col <= y*2; col++) {
+        visitor.visit(col/2, y, TriGrid.getSlot(col), (T) slots[index++]);
+      }
+    }
+  }
+
+  /**
+   * A method used to copy all slots and walls into a new TriGrid.
+   *
+   * @return  TriGrid with the same values
+   */
+  public TriGrid<T,W> toTriGrid() {
+    TriGrid<T,W> output = new TriGrid<>(size);
+    forEachCell((x, y, slot, value) -> {
+      output.set(x, y, slot, value);
+      output.setWall(x, y, slot, Direction.LEFT, getWall(x, y, slot, Direction.LEFT));
+      output.setWall(x, y, slot, Direction.RIGHT, getWall(x, y, slot, Direction.RIGHT));
+      output.setWall(x, y, slot, slot.vertDir(), getWall(x, y, slot, slot.vertDir()));
+    });
+    return output;
+  }
+
+  /**
+   * A method used to get the precomputed edge and vertex neighbours of all slots of this PackedTriGrid.
+   * The slot indices are the same as in this PackedTriGrid, the tables are shared with all TriGrids
+   * of the same size.
+   *
+   * @return  neighbour tables of the size of this PackedTriGrid
+   *
+   * @see com.github.pirasleandro.containers.TriAdjacency#of(int)
+   */
+  public TriAdjacency adjacency() {
+    return TriAdjacency.of(size);
+  }
+
+  /**
+   * getter
+   *
+   * @return  size of the TriGrid
+   */
+  public int getSize() {
+    return size;
+  }
+
+  /**
+   * A method used to get the index of the given slot in the slot array.
+   *
+   * @throws IndexOutOfBoundsException if the coordinates are not valid
+   */
+  private int slotIndex(int x, int y, Slot slot) {
+    if (!areCordsValid(x, y, slot)) {
+      throw new IndexOutOfBoundsException("Index " + x + "/" + y + "/" + slot + " out of bounds for size " + size + ".");
+    }
+    return (y*y) + (x*2) + (slot.isA() ? 0 : 1);
+  }
+
+  /**
+   * A method used to get the index of the wall in the given direction relative to the given slot in the wall array.
+   *
+   * @throws IndexOutOfBoundsException if the coordinates are not valid
+   * @throws IllegalArgumentException  if the slot has no wall in the direction
+   */
+  private int wallIndex(int x, int y, Slot slot, Direction direction) {
+    int col = slotIndex(x, y, slot) - (y*y);
+    switch (direction) {
+      case LEFT: return rowStart(y) + col;
+      case RIGHT: return rowStart(y) + col + 1;
+      case DOWN:
+        if (slot.isA()) {
+          return rowStart(y) + (y*2) + 2 + x;
+        }
+        break;
+      case UP:
+        if (slot.isB()) {
+          return rowStart(y-1) + (y*2) + x;
+        }
+        break;
+      default: throw new EnumConstantNotPresentException(Direction.class, direction.toString());
+    }
+    throw new IllegalArgumentException("Cells in slot " + slot + " don't have a wall in the direction " + direction);
+  }
+
+  private static int rowStart(int y) {
+    return (int) (3L*y*(y+1)/2);
+  }
+}
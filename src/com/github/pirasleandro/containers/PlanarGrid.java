@@ -0,0 +1,220 @@
+package com.github.pirasleandro.containers;
+
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * @author Leandro Piras
+ * @version 1.1
+ *
+ * Extends AdvGrid to store cells, walls and corners in separate planes instead of one interleaved gridArray.
+ * Every plane is a flat, row-major array of its own type:
+ * <pre>
+ * cells            width   * height      index y*width + x
+ * horizontal walls width   * (height+1)  index y*width + x      (upper wall of cell x/y)
+ * vertical walls   (width+1) * height    index y*(width+1) + x  (left wall of cell x/y)
+ * corners          (width+1) * (height+1) index y*(width+1) + x (upper left corner of cell x/y)
+ * </pre>
+ * The planes can be accessed directly to scan only cells or only walls. Writing into them directly
+ * bypasses the setters of the grid.
+ *
+ * @see com.github.pirasleandro.containers.AdvGrid
+ *
+ * @param T type of the main storage values
+ * @param W type of the wall values
+ * @param C type of the corner values
+ */
+public class PlanarGrid<T,W,C> extends AdvGrid<T,W,C> {
+  private final T[] cells;
+  private final W[] hWalls;
+  private final W[] vWalls;
+  private final C[] corners;
+
+  /**
+   * A basic constructor.
+   *
+   * @param width       width of the grid
+   * @param height      height of the grid
+   * @param cellType    class of the cell values
+   * @param wallType    class of the wall values
+   * @param cornerType  class of the corner values
+   */
+  @SuppressWarnings("unchecked")
+  public PlanarGrid(int width, int height, Class<T> cellType, Class<W> wallType, Class<C> cornerType) {
+    super(width, height, null);
+    this.cells = (T[]) Array.newInstance(cellType, width*height);
+    this.hWalls = (W[]) Array.newInstance(wallType, width*(height+1));
+    this.vWalls = (W[]) Array.newInstance(wallType, (width+1)*height);
+    this.corners = (C[]) Array.newInstance(cornerType, (width+1)*(height+1));
+  }
+
+  /**
+   * A constructor that additionally sets all values of the grid to the given default values.
+   *
+   * @param width         width of the grid
+   * @param height        height of the grid
+   * @param cellType      class of the cell values
+   * @param wallType      class of the wall values
+   * @param cornerType    class of the corner values
+   * @param defaultCell   value that all cells will be set to
+   * @param defaultWall   value that all walls will be set to
+   * @param defaultCorner value that all corners will be set to
+   *
+   * @see com.github.pirasleandro.containers.PlanarGrid#fill(Object, Object, Object)
+   */
+  public PlanarGrid(int width, int height, Class<T> cellType, Class<W> wallType, Class<C> cornerType, T defaultCell, W defaultWall, C defaultCorner) {
+    this(width, height, cellType, wallType, cornerType);
+    fill(defaultCell, defaultWall, defaultCorner);
+  }
+
+  /**
+   * A method used to set all values of the grid to the given default values.
+   * Every plane is filled at once.
+   *
+   * @param defaultCell   value that all cells will be set to
+   * @param defaultWall   value that all walls will be set to
+   * @param defaultCorner value that all corners will be set to
+   */
+  @Override
+  public void fill(T defaultCell, W defaultWall, C defaultCorner) {
+    Arrays.fill(cells, defaultCell);
+    Arrays.fill(hWalls, defaultWall);
+    Arrays.fill(vWalls, defaultWall);
+    Arrays.fill(corners, defaultCorner);
+    allChanged();
+  }
+
+  /**
+   * Returns the cell value of the given coordinates.
+   *
+   * @param x x coordinate of cell
+   * @param y y coordinate of cell
+   * @return  value of the cell
+   */
+  @Override
+  public T get(int x, int y) {
+    Objects.checkIndex(x, width);
+    Objects.checkIndex(y, height);
+    return cells[(y*width)+x];
+  }
+
+  /**
+   * A method used to get the wall in the given direction relative to the cell at the given coordinates.
+   *
+   * @param x         x coordinate of the cell
+   * @param y         y coordinate of the cell
+   * @param direction direction of the wall relative to cell
+   * @return          value of the wall in the direction relative to the cell
+   */
+  @Override
+  public W getWall(int x, int y, Direction direction) {
+    Objects.checkIndex(x, width);
+    Objects.checkIndex(y, height);
+    switch (direction) {
+      case UP: return hWalls[(y*width)+x];
+      case DOWN: return hWalls[((y+1)*width)+x];
+      case LEFT: return vWalls[(y*(width+1))+x];
+      case RIGHT: return vWalls[(y*(width+1))+x+1];
+      default: throw new EnumConstantNotPresentException(Direction.class, direction.toString());
+    }
+  }
+
+  /**
+   * A method used to get the value of the corner at the given coordinates.
+   * Corner coordinates are equal to their lower-right cells coordinates.
+   *
+   * @param x x coordinate of the corner
+   * @param y y coordinate of the corner
+   * @return  value of the corner
+   */
+  @Override
+  public C getCorner(int x, int y) {
+    Objects.checkIndex(x, width+1);
+    Objects.checkIndex(y, height+1);
+    return corners[(y*(width+1))+x];
+  }
+
+  @Override
+  protected Object load(int x, int y) {
+    int index = planeIndex(x, y);
+    if (y%2 == 1) {
+      return (x%2 == 1 ? cells[index] : vWalls[index]);
+    } else {
+      return (x%2 == 1 ? hWalls[index] : corners[index]);
+    }
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  protected void store(int x, int y, Object value) {
+    int index = planeIndex(x, y);
+    if (y%2 == 1) {
+      if (x%2 == 1) {
+        cells[index] = (T) value;
+      } else {
+        vWalls[index] = (W) value;
+      }
+    } else {
+      if (x%2 == 1) {
+        hWalls[index] = (W) value;
+      } else {
+        corners[index] = (C) value;
+      }
+    }
+  }
+
+  /**
+   * A method used to convert gridArray coordinates to the index in the plane the Object belongs to.
+   *
+   * @param x x coordinate in the gridArray
+   * @param y y coordinate in the gridArray
+   * @return  index in the plane
+   *
+   * @throws IndexOutOfBoundsException if the coordinates are outside of the gridArray
+   */
+  private int planeIndex(int x, int y) {
+    Objects.checkIndex(x, convert(width));
+    Objects.checkIndex(y, convert(height));
+    int planeWidth = (x%2 == 1 ? width : width+1);
+    return ((y/2)*planeWidth) + (x/2);
+  }
+
+  /**
+   * Returns the plane of the cells. Changes to the array are visible in the grid.
+   *
+   * @return  T[] with width*height cells
+   */
+  public T[] getCellPlane() {
+    return cells;
+  }
+
+  /**
+   * Returns the plane of the horizontal walls (upper and lower walls of the cells).
+   * Changes to the array are visible in the grid.
+   *
+   * @return  W[] with width*(height+1) walls
+   */
+  public W[] getHWallPlane() {
+    return hWalls;
+  }
+
+  /**
+   * Returns the plane of the vertical walls (left and right walls of the cells).
+   * Changes to the array are visible in the grid.
+   *
+   * @return  W[] with (width+1)*height walls
+   */
+  public W[] getVWallPlane() {
+    return vWalls;
+  }
+
+  /**
+   * Returns the plane of the corners. Changes to the array are visible in the grid.
+   *
+   * @return  C[] with (width+1)*(height+1) corners
+   */
+  public C[] getCornerPlane() {
+    return corners;
+  }
+}
@@ -0,0 +1,225 @@
+package com.github.pirasleandro.containers;
+
+import java.util.Objects;
+
+/**
+ * @author Leandro Piras
+ * @version 1.1
+ *
+ * Base class of the primitive-backed siblings of {@link com.github.pirasleandro.containers.Grid}.
+ * The values are stored in one flat array using the same interleaved layout as the gridArray of a Grid,
+ * so a cell at x/y lives at the index (convert(y) * cols) + convert(x). Subclasses only add the typed
+ * array and accessors, all index calculations are done here.
+ *
+ * @see com.github.pirasleandro.containers.BooleanGrid
+ * @see com.github.pirasleandro.containers.ByteGrid
+ * @see com.github.pirasleandro.containers.IntGrid
+ */
+public abstract class PrimitiveGrid {
+  /**
+   * Width and height of the grid.
+   */
+  protected final int width, height;
+  /**
+   * Width and height of the interleaved array (cells, walls and corners).
+   */
+  protected final int cols, rows;
+
+  /**
+   * A basic constructor.
+   *
+   * @param width   width of the grid
+   * @param height  height of the grid
+   *
+   * @throws IllegalArgumentException if the width or height is smaller than 1 or the grid is too big for an array
+   */
+  protected PrimitiveGrid(int width, int height) {
+    if (width < 1 || height < 1) {
+      throw new IllegalArgumentException("cannot invoke a grid of size " + width + "/" + height + ". Must be minimum 1.");
+    }
+    this.width = width;
+    this.height = height;
+    this.cols = Grid.convert(width);
+    this.rows = Grid.convert(height);
+    if ((long) cols * rows > Integer.MAX_VALUE - 8) {
+      throw new IllegalArgumentException("a grid of size " + width + "/" + height + " does not fit into an array.");
+    }
+  }
+
+  /**
+   * A method used to get the index in the flat array of the given gridArray coordinates.
+   *
+   * @param col x coordinate in the gridArray
+   * @param row y coordinate in the gridArray
+   * @return    index in the flat array
+   *
+   * @throws IndexOutOfBoundsException if the coordinates are outside of the gridArray
+   */
+  protected int index(int col, int row) {
+    Objects.checkIndex(col, cols);
+    Objects.checkIndex(row, rows);
+    return (row*cols)+col;
+  }
+
+  /**
+   * A method used to get the index of the cell at the given coordinates.
+   *
+   * @param x x coordinate of the cell
+   * @param y y coordinate of the cell
+   * @return  index of the cell in the flat array
+   */
+  protected int cellIndex(int x, int y) {
+    return index(Grid.convert(x), Grid.convert(y));
+  }
+
+  /**
+   * A method used to get the index of the wall in the given direction relative to the cell at the given coordinates.
+   *
+   * @param x         x coordinate of the cell
+   * @param y         y coordinate of the cell
+   * @param direction direction of the wall relative to the cell
+   * @return          index of the wall in the flat array
+   */
+  protected int wallIndex(int x, int y, Direction direction) {
+    switch (direction) {
+      case UP: return index(Grid.convert(x), Grid.convert(y)-1);
+      case DOWN: return index(Grid.convert(x), Grid.convert(y)+1);
+      case LEFT: return index(Grid.convert(x)-1, Grid.convert(y));
+      case RIGHT: return index(Grid.convert(x)+1, Grid.convert(y));
+      default: throw new EnumConstantNotPresentException(Direction.class, direction.toString());
+    }
+  }
+
+  /**
+   * A method used to get the index of the corner in the given directions relative to the cell at the given coordinates.
+   *
+   * @param x           x coordinate of the cell
+   * @param y           y coordinate of the cell
+   * @param vDirection  vertical direction from cell to corner
+   * @param hDirection  horizontal direction from cell to corner
+   * @return            index of the corner in the flat array
+   *
+   * @throws IllegalArgumentException if the directions don't point to a corner
+   */
+  protected int cornerIndex(int x, int y, Direction vDirection, Direction hDirection) {
+    if (!vDirection.isVertical() || !hDirection.isHorizontal()) {
+      throw new IllegalArgumentException("The directions " + vDirection + "/" + hDirection + " don't point to a corner.");
+    }
+    int col = Grid.convert(x) + (hDirection == Direction.LEFT ? -1 : 1);
+    int row = Grid.convert(y) + (vDirection == Direction.UP ? -1 : 1);
+    return index(col, row);
+  }
+
+  /**
+   * A method used to get the index of the corner at the given coordinates.
+   * Corner coordinates are equal to their lower-right cells coordinates.
+   *
+   * @param x x coordinate of the corner
+   * @param y y coordinate of the corner
+   * @return  index of the corner in the flat array
+   */
+  protected int cornerIndex(int x, int y) {
+    return index(x*2, y*2);
+  }
+
+  /**
+   * A method used to get the index of the wall in the given direction relative to the corner at the given coordinates.
+   * Corner coordinates are equal to their lower-right cells coordinates.
+   *
+   * @param x         x coordinate of the corner
+   * @param y         y coordinate of the corner
+   * @param direction direction from corner to wall
+   * @return          index of the wall in the flat array
+   */
+  protected int wallFromCornerIndex(int x, int y, Direction direction) {
+    switch (direction) {
+      case UP: return index(x*2, (y*2)-1);
+      case DOWN: return index(x*2, (y*2)+1);
+      case LEFT: return index((x*2)-1, y*2);
+      case RIGHT: return index((x*2)+1, y*2);
+      default: throw new EnumConstantNotPresentException(Direction.class, direction.toString());
+    }
+  }
+
+  /**
+   * A method used to get the index of the cell in the given directions relative to the corner at the given coordinates.
+   * Corner coordinates are equal to their lower-right cells coordinates.
+   *
+   * @param x           x coordinate of the corner
+   * @param y           y coordinate of the corner
+   * @param vDirection  vertical direction from corner to cell
+   * @param hDirection  horizontal direction from corner to cell
+   * @return            index of the cell in the flat array
+   *
+   * @throws IllegalArgumentException if the directions don't point to a cell
+   */
+  protected int fromCornerIndex(int x, int y, Direction vDirection, Direction hDirection) {
+    if (!vDirection.isVertical() || !hDirection.isHorizontal()) {
+      throw new IllegalArgumentException("The directions " + vDirection + "/" + hDirection + " don't point to a cell.");
+    }
+    int col = (x*2) + (hDirection == Direction.LEFT ? -1 : 1);
+    int row = (y*2) + (vDirection == Direction.UP ? -1 : 1);
+    return index(col, row);
+  }
+
+  /**
+   * A method used to calculate the direction that the cell at the second coordinates
+   * relative to the first coordinates is.
+   *
+   * @param x1  x coordinate of first cell
+   * @param y1  y coordinate of first cell
+   * @param x2  x coordinate of second cell
+   * @param y2  y coordinate of second cell
+   * @return    the direction of the second cell relative to the first cell
+   *
+   * @throws IllegalArgumentException if the cells are not neighbours
+   */
+  public Direction calcDirection(int x1, int y1, int x2, int y2) {
+    if (y1 != y2 && x1 != x2) {
+      throw new IllegalArgumentException("The coordinates " + x1 + "/" + y1 + " and " + x2 + "/" + y2 + " are not neighbours.");
+    }
+    if (y1 != y2) {
+      return (y1 > y2 ? Direction.UP : Direction.DOWN);
+    } else {
+      return (x1 > x2 ? Direction.LEFT : Direction.RIGHT);
+    }
+  }
+
+  /**
+   * A method used to determine if the coordinates are in the bounds of the grid.
+   *
+   * @param x x coordinate of the cell
+   * @param y y coordinate of the cell
+   * @return  true if the coordinates are valid, false if they're not
+   */
+  public boolean areCordsValid(int x, int y) {
+    return (x >= 0 && x < width && y >= 0 && y < height);
+  }
+
+  /**
+   * getter
+   *
+   * @return  int width of grid
+   */
+  public int getWidth() {
+    return width;
+  }
+
+  /**
+   * getter
+   *
+   * @return  int height of grid
+   */
+  public int getHeight() {
+    return height;
+  }
+
+  /**
+   * A method used to get the length of the flat array, which is the amount of cells, walls and corners.
+   *
+   * @return  length of the flat array
+   */
+  public int length() {
+    return cols*rows;
+  }
+}
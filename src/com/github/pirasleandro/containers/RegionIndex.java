@@ -0,0 +1,191 @@
+package com.github.pirasleandro.containers;
+
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * @author Leandro Piras
+ * @version 1.1
+ *
+ * Index over a Grid that counts the cells and walls matching a predicate in any rectangular region in O(1).
+ * The index holds summed-area tables, where every entry is the amount of matches above and left of it,
+ * so the amount in a region is calculated from the four entries at its corners.
+ * The tables are built in one pass over the grid. Once the grid is written, which is detected with
+ * {@link com.github.pirasleandro.containers.Grid#getModCount()}, they are rebuilt on the next query.
+ *
+ * @see com.github.pirasleandro.containers.Grid
+ *
+ * @param T type of the main storage values
+ * @param W type of the wall values
+ */
+public final class RegionIndex<T,W> {
+  private final Grid<T,W> grid;
+  private final Predicate<? super T> cellPredicate;
+  private final Predicate<? super W> wallPredicate;
+  // matching cells, indexed with y*(width+1)+x
+  private final int[] cellSums;
+  // matching walls over the whole gridArray, indexed with y*(convert(width)+1)+x
+  private final int[] wallSums;
+  private int modCount;
+  private boolean built;
+
+  /**
+   * A constructor. The tables are built on the first query.
+   *
+   * @param grid          grid to be indexed
+   * @param cellPredicate predicate of the cells to be counted
+   * @param wallPredicate predicate of the walls to be counted
+   *
+   * @throws IllegalArgumentException if the grid is too big for the tables
+   */
+  public RegionIndex(Grid<T,W> grid, Predicate<? super T> cellPredicate, Predicate<? super W> wallPredicate) {
+    this.grid = Objects.requireNonNull(grid);
+    this.cellPredicate = Objects.requireNonNull(cellPredicate);
+    this.wallPredicate = Objects.requireNonNull(wallPredicate);
+    long lattice = ((long) Grid.convert(grid.getWidth())+1)*(Grid.convert(grid.getHeight())+1);
+    if (lattice > Integer.MAX_VALUE - 8) {
+      throw new IllegalArgumentException("a grid of size " + grid.getWidth() + "/" + grid.getHeight() + " is too big to be indexed.");
+    }
+    this.cellSums = new int[(grid.getWidth()+1)*(grid.getHeight()+1)];
+    this.wallSums = new int[(int) lattice];
+  }
+
+  /**
+   * A method used to count the cells in the given region that match the cell predicate.
+   *
+   * @param x             x coordinate of the upper left cell of the region
+   * @param y             y coordinate of the upper left cell of the region
+   * @param regionWidth   width of the region in cells
+   * @param regionHeight  height of the region in cells
+   * @return              amount of matching cells
+   *
+   * @throws IndexOutOfBoundsException if the region is not inside of the grid
+   */
+  public int countCells(int x, int y, int regionWidth, int regionHeight) {
+    grid.checkRegion(x, y, regionWidth, regionHeight);
+    ensureBuilt();
+    return sum(cellSums, grid.getWidth()+1, x, y, x+regionWidth, y+regionHeight);
+  }
+
+  /**
+   * A method used to count the walls of the cells in the given region that match the wall predicate.
+   * The walls at the border of the region are counted as well.
+   *
+   * @param x             x coordinate of the upper left cell of the region
+   * @param y             y coordinate of the upper left cell of the region
+   * @param regionWidth   width of the region in cells
+   * @param regionHeight  height of the region in cells
+   * @return              amount of matching walls
+   *
+   * @throws IndexOutOfBoundsException if the region is not inside of the grid
+   */
+  public int countWalls(int x, int y, int regionWidth, int regionHeight) {
+    grid.checkRegion(x, y, regionWidth, regionHeight);
+    if (regionWidth == 0 || regionHeight == 0) {
+      return 0;
+    }
+    ensureBuilt();
+    return sum(wallSums, Grid.convert(grid.getWidth())+1, x*2, y*2, ((x+regionWidth)*2)+1, ((y+regionHeight)*2)+1);
+  }
+
+  /**
+   * A method used to count the walls between the cells of the given region that match the wall predicate.
+   * The walls at the border of the region are not counted.
+   *
+   * @param x             x coordinate of the upper left cell of the region
+   * @param y             y coordinate of the upper left cell of the region
+   * @param regionWidth   width of the region in cells
+   * @param regionHeight  height of the region in cells
+   * @return              amount of matching walls
+   *
+   * @throws IndexOutOfBoundsException if the region is not inside of the grid
+   */
+  public int countInnerWalls(int x, int y, int regionWidth, int regionHeight) {
+    grid.checkRegion(x, y, regionWidth, regionHeight);
+    if (regionWidth == 0 || regionHeight == 0) {
+      return 0;
+    }
+    ensureBuilt();
+    return sum(wallSums, Grid.convert(grid.getWidth())+1, (x*2)+1, (y*2)+1, (x+regionWidth)*2, (y+regionHeight)*2);
+  }
+
+  /**
+   * A method used to count all cells in the grid that match the cell predicate.
+   *
+   * @return  amount of matching cells
+   */
+  public int countCells() {
+    return countCells(0, 0, grid.getWidth(), grid.getHeight());
+  }
+
+  /**
+   * A method used to count all walls in the grid that match the wall predicate.
+   *
+   * @return  amount of matching walls
+   */
+  public int countWalls() {
+    return countWalls(0, 0, grid.getWidth(), grid.getHeight());
+  }
+
+  /**
+   * A method used to rebuild the tables right away instead of on the next query.
+   * Needed after writing to the arrays returned by {@link com.github.pirasleandro.containers.Grid#toArray()}.
+   */
+  @SuppressWarnings("unchecked")
+  public void rebuild() {
+    int width = grid.getWidth();
+    int cols = Grid.convert(width);
+    int rows = Grid.convert(grid.getHeight());
+    int stride = cols+1;
+    // the row above the first row of the gridArray stays 0
+    for (int y = 0; y < rows; y++) {
+      Object[] row = (grid.gridArray != null ? grid.gridArray[y] : null);
+      int above = y*stride;
+      int current = above+stride;
+      int run = 0;
+      for (int x = 0; x < cols; x++) {
+        if (Grid.isWall(x, y) && wallPredicate.test((W) (row != null ? row[x] : grid.getObject(x, y)))) {
+          run++;
+        }
+        wallSums[current+x+1] = wallSums[above+x+1] + run;
+      }
+      if (y%2 == 1) {
+        int cellAbove = (y/2)*(width+1);
+        int cellCurrent = cellAbove+width+1;
+        run = 0;
+        for (int x = 0; x < width; x++) {
+          Object value = (row != null ? row[(x*2)+1] : grid.getObject((x*2)+1, y));
+          if (cellPredicate.test((T) value)) {
+            run++;
+          }
+          cellSums[cellCurrent+x+1] = cellSums[cellAbove+x+1] + run;
+        }
+      }
+    }
+    modCount = grid.getModCount();
+    built = true;
+  }
+
+  /**
+   * getter
+   *
+   * @return  indexed grid
+   */
+  public Grid<T,W> getGrid() {
+    return grid;
+  }
+
+  private void ensureBuilt() {
+    if (!built || modCount != grid.getModCount()) {
+      rebuild();
+    }
+  }
+
+  /**
+   * A method used to get the sum of the given summed-area table in the rectangle from the first
+   * coordinates inclusive to the second coordinates exclusive.
+   */
+  private static int sum(int[] sums, int stride, int fromX, int fromY, int toX, int toY) {
+    return sums[(toY*stride)+toX] - sums[(fromY*stride)+toX] - sums[(toY*stride)+fromX] + sums[(fromY*stride)+fromX];
+  }
+}
@@ -0,0 +1,238 @@
+package com.github.pirasleandro.containers;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * @author Leandro Piras
+ * @version 1.1
+ *
+ * Extends AdvGrid to store the gridArray in square tiles of {@value #TILE_CELLS}x{@value #TILE_CELLS} cells
+ * (with their walls and corners) that are only allocated once a value other than the default is written.
+ * A tile that was never written is uniform, every read of it is answered with the default value of
+ * the cell, wall or corner. Memory and the time of {@link #fill(Object, Object, Object)} therefore scale
+ * with the written area instead of the size of the grid.
+ *
+ * @see com.github.pirasleandro.containers.AdvGrid
+ *
+ * @param T type of the main storage values
+ * @param W type of the wall values
+ * @param C type of the corner values
+ */
+public class TiledGrid<T,W,C> extends AdvGrid<T,W,C> {
+  /**
+   * Width and height of a tile in cells.
+   */
+  public static final int TILE_CELLS = 64;
+  // width and height of a tile in gridArray coordinates, always even so tiles keep the parity of the gridArray
+  private static final int TILE_SHIFT = 7;
+  private static final int TILE_SIZE = 1 << TILE_SHIFT;
+  private static final int TILE_MASK = TILE_SIZE - 1;
+  // tiles in row-major order, null if the tile is uniform
+  private final Object[][][] tiles;
+  private T defaultCell;
+  private W defaultWall;
+  private C defaultCorner;
+  // content of a newly allocated tile, created on first use after every fill
+  private Object[] template;
+  private int allocatedTiles;
+
+  /**
+   * A basic constructor. All values will be null.
+   *
+   * @param width   width of the grid
+   * @param height  height of the grid
+   *
+   * @throws IllegalArgumentException if the width or height is smaller than 1
+   */
+  public TiledGrid(int width, int height) {
+    super(width, height, null);
+    if (width < 1 || height < 1) {
+      throw new IllegalArgumentException("cannot invoke a grid of size " + width + "/" + height + ". Must be minimum 1.");
+    }
+    int tilesX = ((convert(width)-1) >> TILE_SHIFT) + 1;
+    int tilesY = ((convert(height)-1) >> TILE_SHIFT) + 1;
+    this.tiles = new Object[tilesY][tilesX][];
+  }
+
+  /**
+   * A constructor that additionally sets all values of the grid to the given default values.
+   *
+   * @param width         width of the grid
+   * @param height        height of the grid
+   * @param defaultCell   value that all cells will be set to
+   * @param defaultWall   value that all walls will be set to
+   * @param defaultCorner value that all corners will be set to
+   *
+   * @see com.github.pirasleandro.containers.TiledGrid#fill(Object, Object, Object)
+   */
+  public TiledGrid(int width, int height, T defaultCell, W defaultWall, C defaultCorner) {
+    this(width, height);
+    fill(defaultCell, defaultWall, defaultCorner);
+  }
+
+  /**
+   * A method used to set all values of the grid to the given default values.
+   * All tiles are released, so this takes time proportional to the amount of tiles, not cells.
+   *
+   * @param defaultCell   value that all cells will be set to
+   * @param defaultWall   value that all walls will be set to
+   * @param defaultCorner value that all corners will be set to
+   */
+  @Override
+  public void fill(T defaultCell, W defaultWall, C defaultCorner) {
+    this.defaultCell = defaultCell;
+    this.defaultWall = defaultWall;
+    this.defaultCorner = defaultCorner;
+    this.template = null;
+    for (Object[][] row : tiles) {
+      Arrays.fill(row, null);
+    }
+    allocatedTiles = 0;
+    allChanged();
+  }
+
+  /**
+   * Returns the cell value of the given coordinates.
+   *
+   * @param x x coordinate of cell
+   * @param y y coordinate of cell
+   * @return  value of the cell
+   */
+  @Override
+  @SuppressWarnings("unchecked")
+  public T get(int x, int y) {
+    return (T) super.get(x, y);
+  }
+
+  /**
+   * A method used to get the wall in the given direction relative to the cell at the given coordinates.
+   *
+   * @param x         x coordinate of the cell
+   * @param y         y coordinate of the cell
+   * @param direction direction of the wall relative to cell
+   * @return          value of the wall in the direction relative to the cell
+   */
+  @Override
+  @SuppressWarnings("unchecked")
+  public W getWall(int x, int y, Direction direction) {
+    return (W) super.getWall(x, y, direction);
+  }
+
+  /**
+   * A method used to get the value of the corner at the given coordinates.
+   * Corner coordinates are equal to their lower-right cells coordinates.
+   *
+   * @param x x coordinate of the corner
+   * @param y y coordinate of the corner
+   * @return  value of the corner
+   */
+  @Override
+  @SuppressWarnings("unchecked")
+  public C getCorner(int x, int y) {
+    return (C) super.getCorner(x, y);
+  }
+
+  @Override
+  protected Object load(int x, int y) {
+    checkIndex(x, y);
+    Object[] tile = tiles[y >> TILE_SHIFT][x >> TILE_SHIFT];
+    if (tile == null) {
+      return defaultValue(x, y);
+    }
+    return tile[((y & TILE_MASK) << TILE_SHIFT) | (x & TILE_MASK)];
+  }
+
+  @Override
+  protected void store(int x, int y, Object value) {
+    checkIndex(x, y);
+    Object[][] row = tiles[y >> TILE_SHIFT];
+    Object[] tile = row[x >> TILE_SHIFT];
+    if (tile == null) {
+      if (Objects.equals(value, defaultValue(x, y))) {
+        return;
+      }
+      tile = template().clone();
+      row[x >> TILE_SHIFT] = tile;
+      allocatedTiles++;
+    }
+    tile[((y & TILE_MASK) << TILE_SHIFT) | (x & TILE_MASK)] = value;
+  }
+
+  /**
+   * A method used to release all tiles that only contain default values again.
+   *
+   * @return  amount of released tiles
+   */
+  public int trim() {
+    Object[] template = template();
+    int released = 0;
+    for (Object[][] row : tiles) {
+      for (int i = 0; i < row.length; i++) {
+        if (row[i] != null && Arrays.equals(row[i], template)) {
+          row[i] = null;
+          released++;
+        }
+      }
+    }
+    allocatedTiles -= released;
+    return released;
+  }
+
+  /**
+   * getter
+   *
+   * @return  amount of tiles that are currently allocated
+   */
+  public int getAllocatedTiles() {
+    return allocatedTiles;
+  }
+
+  /**
+   * getter
+   *
+   * @return  amount of tiles the grid is divided into
+   */
+  public int getTileCount() {
+    return tiles.length * tiles[0].length;
+  }
+
+  /**
+   * A method used to get the default value of the Object at the given gridArray coordinates.
+   *
+   * @param x x coordinate in the gridArray
+   * @param y y coordinate in the gridArray
+   * @return  default cell, wall or corner
+   */
+  private Object defaultValue(int x, int y) {
+    if (y%2 == 1) {
+      return (x%2 == 1 ? defaultCell : defaultWall);
+    } else {
+      return (x%2 == 1 ? defaultWall : defaultCorner);
+    }
+  }
+
+  /**
+   * A method used to get the content of a newly allocated tile. Tiles start at even gridArray
+   * coordinates, so the template is the same for every tile.
+   *
+   * @return  Object[] with the default values of a tile
+   */
+  private Object[] template() {
+    if (template == null) {
+      Object[] output = new Object[TILE_SIZE*TILE_SIZE];
+      for (int y = 0; y < TILE_SIZE; y++) {
+        for (int x = 0; x < TILE_SIZE; x++) {
+          output[(y << TILE_SHIFT) | x] = defaultValue(x, y);
+        }
+      }
+      template = output;
+    }
+    return template;
+  }
+
+  private void checkIndex(int x, int y) {
+    Objects.checkIndex(x, convert(width));
+    Objects.checkIndex(y, convert(height));
+  }
+}
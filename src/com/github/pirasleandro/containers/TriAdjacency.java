@@ -0,0 +1,217 @@
+package com.github.pirasleandro.containers;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * @author Leandro Piras
+ * @version 1.1
+ *
+ * Precomputed neighbours of all slots of a TriGrid of one size, over the slot indices of
+ * {@link com.github.pirasleandro.containers.TriGrid#indexOf(int, int, Slot)}.
+ * The neighbours are stored in compressed sparse row form: the neighbours of the slot with the index i are
+ * the targets from the offset at i inclusive to the offset at i+1 exclusive. Edge neighbours share a wall
+ * with the slot (up to 3), vertex neighbours share at least a corner with it (up to 12).
+ * The tables only depend on the size, so they are built once per size by {@link #of(int)} and shared
+ * between all TriGrids. The arrays returned by the getters are shared as well and must not be written.
+ *
+ * @see com.github.pirasleandro.containers.TriGrid
+ */
+public final class TriAdjacency {
+  private static final Map<Integer,TriAdjacency> CACHE = new ConcurrentHashMap<>();
+
+  private final int size;
+  private final int[] edgeOffsets;
+  private final int[] edgeTargets;
+  private final int[] vertexOffsets;
+  private final int[] vertexTargets;
+
+  private TriAdjacency(int size) {
+    if (size < 1) {
+      throw new IllegalArgumentException("cannot invoke a TriGrid of size " + size + ". Must be minimum 1.");
+    }
+    if (12L*size*size > Integer.MAX_VALUE - 8) {
+      throw new IllegalArgumentException("the neighbours of a TriGrid of size " + size + " do not fit into an array.");
+    }
+    this.size = size;
+    int slots = size*size;
+    this.edgeOffsets = new int[slots+1];
+    this.vertexOffsets = new int[slots+1];
+    int[] edges = new int[3*slots];
+    int[] vertices = new int[12*slots];
+    int edgeCount = 0;
+    int vertexCount = 0;
+    for (int y = 0; y < size; y++) {
+      for (int col = 0; col <= y*2; col++) {
+        int x = col/2;
+        Slot slot = TriGrid.getSlot(col);
+        int index = TriGrid.indexOf(x, y, slot);
+        edgeOffsets[index] = edgeCount;
+        vertexOffsets[index] = vertexCount;
+        edgeCount = addEdgeNeighbours(x, y, slot, edges, edgeCount);
+        vertexCount = addVertexNeighbours(x, y, slot, vertices, vertexCount);
+      }
+    }
+    edgeOffsets[slots] = edgeCount;
+    vertexOffsets[slots] = vertexCount;
+    this.edgeTargets = Arrays.copyOf(edges, edgeCount);
+    this.vertexTargets = Arrays.copyOf(vertices, vertexCount);
+  }
+
+  /**
+   * A method used to get the tables of the given size. They are built on the first call and cached afterwards.
+   *
+   * @param size  size of the TriGrid
+   * @return      tables of the size
+   *
+   * @throws IllegalArgumentException if the size is smaller than 1 or too big for the tables
+   */
+  public static TriAdjacency of(int size) {
+    TriAdjacency output = CACHE.get(size);
+    if (output == null) {
+      output = CACHE.computeIfAbsent(size, TriAdjacency::new);
+    }
+    return output;
+  }
+
+  /**
+   * A method used to get the index of the first edge neighbour of the given slot in the edge targets.
+   * The edge neighbours are ordered like this: the other slot of the same cell, the other slot of the cell
+   * on the other side of the slot, the other slot of the cell above (slot B) or below (slot A).
+   *
+   * @param index index of the slot
+   * @return      index of the first edge neighbour in the targets
+   *
+   * @see com.github.pirasleandro.containers.TriAdjacency#getEdgeTargets()
+   */
+  public int edgeStart(int index) {
+    return edgeOffsets[index];
+  }
+
+  /**
+   * A method used to get the index after the last edge neighbour of the given slot in the edge targets.
+   *
+   * @param index index of the slot
+   * @return      index after the last edge neighbour in the targets
+   *
+   * @see com.github.pirasleandro.containers.TriAdjacency#getEdgeTargets()
+   */
+  public int edgeEnd(int index) {
+    return edgeOffsets[index+1];
+  }
+
+  /**
+   * A method used to get the index of the first vertex neighbour of the given slot in the vertex targets.
+   * The vertex neighbours are ordered row by row from left to right.
+   *
+   * @param index index of the slot
+   * @return      index of the first vertex neighbour in the targets
+   *
+   * @see com.github.pirasleandro.containers.TriAdjacency#getVertexTargets()
+   */
+  public int vertexStart(int index) {
+    return vertexOffsets[index];
+  }
+
+  /**
+   * A method used to get the index after the last vertex neighbour of the given slot in the vertex targets.
+   *
+   * @param index index of the slot
+   * @return      index after the last vertex neighbour in the targets
+   *
+   * @see com.github.pirasleandro.containers.TriAdjacency#getVertexTargets()
+   */
+  public int vertexEnd(int index) {
+    return vertexOffsets[index+1];
+  }
+
+  /**
+   * getter
+   *
+   * @return  size of the TriGrid
+   */
+  public int getSize() {
+    return size;
+  }
+
+  /**
+   * getter
+   *
+   * @return  offsets of the edge neighbours, indexed with the slot index, must not be written
+   */
+  public int[] getEdgeOffsets() {
+    return edgeOffsets;
+  }
+
+  /**
+   * getter
+   *
+   * @return  slot indices of the edge neighbours of all slots, must not be written
+   */
+  public int[] getEdgeTargets() {
+    return edgeTargets;
+  }
+
+  /**
+   * getter
+   *
+   * @return  offsets of the vertex neighbours, indexed with the slot index, must not be written
+   */
+  public int[] getVertexOffsets() {
+    return vertexOffsets;
+  }
+
+  /**
+   * getter
+   *
+   * @return  slot indices of the vertex neighbours of all slots, must not be written
+   */
+  public int[] getVertexTargets() {
+    return vertexTargets;
+  }
+
+  private int addEdgeNeighbours(int x, int y, Slot slot, int[] targets, int count) {
+    Slot other = slot.other();
+    count = add(x, y, other, targets, count);
+    count = add(slot.isA() ? x-1 : x+1, y, other, targets, count);
+    return add(x, slot.isA() ? y+1 : y-1, other, targets, count);
+  }
+
+  private int addVertexNeighbours(int x, int y, Slot slot, int[] targets, int count) {
+    count = add(x-1, y-1, Slot.A, targets, count);
+    count = add(x-1, y-1, Slot.B, targets, count);
+    count = add(x, y-1, Slot.A, targets, count);
+    if (slot.isB()) {
+      count = add(x, y-1, Slot.B, targets, count);
+      count = add(x+1, y-1, Slot.A, targets, count);
+    } else {
+      count = add(x-1, y, Slot.A, targets, count);
+    }
+    count = add(x-1, y, Slot.B, targets, count);
+    count = add(x, y, slot.other(), targets, count);
+    count = add(x+1, y, Slot.A, targets, count);
+    if (slot.isB()) {
+      count = add(x+1, y, Slot.B, targets, count);
+    } else {
+      count = add(x-1, y+1, Slot.B, targets, count);
+      count = add(x, y+1, Slot.A, targets, count);
+    }
+    count = add(x, y+1, Slot.B, targets, count);
+    count = add(x+1, y+1, Slot.A, targets, count);
+    return add(x+1, y+1, Slot.B, targets, count);
+  }
+
+  /**
+   * A method used to add the index of the given slot to the targets if it exists.
+   *
+   * @return  new amount of targets
+   */
+  private int add(int x, int y, Slot slot, int[] targets, int count) {
+    if (y < 0 || y >= size || x < 0 || (slot.isA() ? x > y : x >= y)) {
+      return count;
+    }
+    targets[count] = TriGrid.indexOf(x, y, slot);
+    return count+1;
+  }
+}
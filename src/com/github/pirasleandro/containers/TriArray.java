@@ -1,24 +1,17 @@
 package com.github.pirasleandro.containers;
 
+import java.util.Arrays;
+
 /**
  * Generic class used to store values in a triangle-based array.
+ * The values are packed into one Object[] of size*size slots, see {@link AbstractTriArray} for the layout.
  * @author Leandro Piras
- * @version 1.0
+ * @version 1.1
  * @param T datatype of the TriArray
  */
-public class TriArray<T> {
-  // size of the TriArray
-  private final int size;
+public class TriArray<T> extends AbstractTriArray {
   // array all the values will be stored in
-  private Object[][] array;
-
-  /**
-   * An empty constructor to prevent empty TriArrays;
-   */
-  @SuppressWarnings("unused")
-  private TriArray() {
-    size = 0;
-  }
+  private final Object[] array;
 
   /**
    * A consructor.
@@ -28,11 +21,8 @@ public class TriArray<T> {
    * @throws IllegalArgumentException if the size is smaller than 1
    */
   public TriArray(int size) {
-    if (size < 1) {
-      throw new IllegalArgumentException("cannot invoke TriArray of size " + size + ". Must be minimum 1.");
-    }
-    this.size = size;
-    array = new Object[(size*2)][size];
+    super(size);
+    array = new Object[size*size];
   }
 
   /**
@@ -49,39 +39,118 @@ public class TriArray<T> {
   }
 
   /**
-   * A method used to set all cells of the TriGrid to the given default value.
+   * A constructor copying all values of the given TriArray.
+   * 
+   * @param triArray  TriArray to be copied
+   */
+  public TriArray(TriArray<? extends T> triArray) {
+    this(triArray.size);
+    copyFrom(triArray);
+  }
+
+  /**
+   * A method used to set all cells of the TriArray to the given default value.
    * 
    * @param defaultValue  value that all cells will be set to
    */
   public void fill(T defaultValue) {
-    for (int x = 0; x < size; x++) {
-      for (int y = 0; y < size-x; y++) {
-        set(x, y, Slot.A, defaultValue);
-        if (x != size-y) {
-          set(x, y, Slot.B, defaultValue);
-        }
-      }
-    }
+    Arrays.fill(array, defaultValue);
+  }
+
+  /**
+   * A method used to set all cells of the given row to the given value.
+   * 
+   * @param y     y coordinate of the row
+   * @param value value that the cells will be set to
+   */
+  public void fillRow(int y, T value) {
+    int from = rowStart(y);
+    Arrays.fill(array, from, from+rowLength(y), value);
+  }
+
+  /**
+   * A method used to copy all values of the given TriArray of the same size into this.
+   * 
+   * @param triArray  TriArray to be copied
+   * 
+   * @throws IllegalArgumentException if the sizes are not equal
+   */
+  public void copyFrom(TriArray<? extends T> triArray) {
+    checkSize(triArray);
+    System.arraycopy(triArray.array, 0, array, 0, array.length);
+  }
+
+  /**
+   * Returns the value of the given slot of the cell at the given coordinates.
+   * 
+   * @param x     x coordinate of the cell
+   * @param y     y coordinate of the cell
+   * @param slot  slot of the cell
+   * @return      value of the slot
+   * 
+   * @throws IndexOutOfBoundsException if the coordinates are not valid
+   */
+  @SuppressWarnings("unchecked")
+  public T get(int x, int y, Slot slot) {
+    return (T) array[index(x, y, slot)];
   }
 
-  public Object get(int x, int y, Slot slot) {
-    return array[convertX(x, slot)][y];
+  /**
+   * Returns the value of the slot at the given index.
+   * 
+   * @param index index of the slot
+   * @return      value of the slot
+   * 
+   * @see com.github.pirasleandro.containers.AbstractTriArray#index(int, int, Slot)
+   */
+  @SuppressWarnings("unchecked")
+  public T get(int index) {
+    return (T) array[index];
   }
 
+  /**
+   * A method used to set the value of the given slot of the cell at the given coordinates.
+   * 
+   * @param x     x coordinate of the cell
+   * @param y     y coordinate of the cell
+   * @param slot  slot of the cell
+   * @param value value the slot will be set to
+   * 
+   * @throws IndexOutOfBoundsException if the coordinates are not valid
+   */
   public void set(int x, int y, Slot slot, T value) {
-    array[convertX(x, slot)][y] = value;
+    array[index(x, y, slot)] = value;
   }
 
+  /**
+   * A method used to set the value of the slot at the given index.
+   * 
+   * @param index index of the slot
+   * @param value value the slot will be set to
+   * 
+   * @see com.github.pirasleandro.containers.AbstractTriArray#index(int, int, Slot)
+   */
+  public void set(int index, T value) {
+    array[index] = value;
+  }
+
+  /**
+   * A method used to get the position of the given slot in its row.
+   * 
+   * @param x     x coordinate of the cell
+   * @param slot  slot of the cell
+   * @return      position in the row
+   */
   public static int convertX(int x, Slot slot) {
     return (slot.isA() ? (x*2) : (x*2)+1);
   }
 
   /**
-   * Returns the TriArray as a regular array.
+   * Returns the packed array backing the TriArray. Changes to the array are visible in the TriArray.
    * 
-   * @return  Object[][] {@link #array}
+   * @return  Object[] {@link #array}
    */
-  public Object[][] toArray() {
+  public Object[] toArray() {
     return array;
   }
 }
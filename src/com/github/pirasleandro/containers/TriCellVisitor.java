@@ -0,0 +1,25 @@
+package com.github.pirasleandro.containers;
+
+/**
+ * @author Leandro Piras
+ * @version 1.1
+ * 
+ * Functional interface used to visit the slots of a TriGrid together with their coordinates,
+ * without creating a TriPoint per slot.
+ * 
+ * @see com.github.pirasleandro.containers.TriGrid#forEachCell(TriCellVisitor)
+ * 
+ * @param V type of the visited values
+ */
+@FunctionalInterface
+public interface TriCellVisitor<V> {
+  /**
+   * A method called once for every slot.
+   * 
+   * @param x     x coordinate of the cell
+   * @param y     y coordinate of the cell
+   * @param slot  slot of the cell
+   * @param value value of the slot
+   */
+  void visit(int x, int y, Slot slot, V value);
+}
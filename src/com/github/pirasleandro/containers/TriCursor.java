@@ -0,0 +1,215 @@
+package com.github.pirasleandro.containers;
+
+/**
+ * @author Leandro Piras
+ * @version 1.1
+ *
+ * Cursor walking over the slots of a TriGrid row by row from left to right, for passes over the whole board.
+ * The cursor keeps the gridArray coordinates of the current slot and only advances them, so the values and
+ * walls of the current slot are read without validating the coordinates or converting them again.
+ * Writes go through the Grid like {@link com.github.pirasleandro.containers.TriGrid#set(int, int, Slot, Object)},
+ * so change tracking and content hashes stay correct.
+ *
+ * <pre>
+ * TriCursor&lt;T,W&gt; cursor = triGrid.cursor();
+ * while (cursor.next()) {
+ *   T value = cursor.get();
+ * }
+ * </pre>
+ *
+ * @see com.github.pirasleandro.containers.TriGrid#cursor()
+ *
+ * @param T type of normal storage values
+ * @param W type of wall values
+ */
+public final class TriCursor<T,W> {
+  private final Grid<T,W> grid;
+  private final int size;
+  private int y;
+  private int col;
+  // gridArray coordinates of the current slot
+  private int gridX;
+  private int gridY;
+  private int index;
+
+  TriCursor(Grid<T,W> grid, int size) {
+    this.grid = grid;
+    this.size = size;
+    moveToRow(0);
+  }
+
+  /**
+   * A method used to move the cursor to the next slot.
+   *
+   * @return  true if the cursor is on a slot, false if there are no slots left
+   */
+  public boolean next() {
+    if (y >= size) {
+      return false;
+    }
+    if (col < y*2) {
+      col++;
+      gridX += 2;
+    } else {
+      if (++y == size) {
+        return false;
+      }
+      col = 0;
+      gridX = 1;
+      gridY += 2;
+    }
+    index++;
+    return true;
+  }
+
+  /**
+   * A method used to move the cursor in front of the first slot of the given row,
+   * so the next call of {@link #next()} moves it onto that slot.
+   *
+   * @param y y coordinate of the row
+   *
+   * @throws IndexOutOfBoundsException if the row doesn't exist
+   */
+  public void moveToRow(int y) {
+    if (y < 0 || y >= size) {
+      throw new IndexOutOfBoundsException("Row " + y + " out of bounds for size " + size + ".");
+    }
+    // the cursor stands on the slot before the row, which is the last slot of the row above
+    this.y = y-1;
+    this.col = (y-1)*2;
+    this.gridX = Grid.convert(col);
+    this.gridY = Grid.convert(y-1);
+    this.index = (y*y)-1;
+  }
+
+  /**
+   * A method used to determine if the current slot is the last one of its row.
+   *
+   * @return  true if it's the last slot of the row
+   */
+  public boolean isRowEnd() {
+    return (col == y*2);
+  }
+
+  /**
+   * Returns the value of the current slot, without validating the coordinates.
+   *
+   * @return  value of the slot
+   */
+  @SuppressWarnings("unchecked")
+  public T get() {
+    return (T) grid.getObject(gridX, gridY);
+  }
+
+  /**
+   * A method used to set the value of the current slot.
+   *
+   * @param value value the slot will be set to
+   */
+  public void set(T value) {
+    grid.setObject(gridX, gridY, value);
+  }
+
+  /**
+   * Returns the value of the left wall of the current slot.
+   *
+   * @return  value of the wall
+   */
+  @SuppressWarnings("unchecked")
+  public W getLeftWall() {
+    return (W) grid.getObject(gridX-1, gridY);
+  }
+
+  /**
+   * Returns the value of the right wall of the current slot.
+   *
+   * @return  value of the wall
+   */
+  @SuppressWarnings("unchecked")
+  public W getRightWall() {
+    return (W) grid.getObject(gridX+1, gridY);
+  }
+
+  /**
+   * Returns the value of the vertical wall of the current slot, which is the lower wall of a slot A
+   * and the upper wall of a slot B.
+   *
+   * @return  value of the wall
+   */
+  @SuppressWarnings("unchecked")
+  public W getVerticalWall() {
+    return (W) grid.getObject(gridX, (col%2 == 0 ? gridY+1 : gridY-1));
+  }
+
+  /**
+   * A method used to set the value of the left wall of the current slot.
+   *
+   * @param value value the wall will be set to
+   */
+  public void setLeftWall(W value) {
+    grid.setObject(gridX-1, gridY, value);
+  }
+
+  /**
+   * A method used to set the value of the right wall of the current slot.
+   *
+   * @param value value the wall will be set to
+   */
+  public void setRightWall(W value) {
+    grid.setObject(gridX+1, gridY, value);
+  }
+
+  /**
+   * A method used to set the value of the vertical wall of the current slot.
+   * Like {@link com.github.pirasleandro.containers.TriGrid#setWall(int, int, Slot, Direction, Object)},
+   * the wall is written below or above both slots of the cell.
+   *
+   * @param value value the wall will be set to
+   */
+  public void setVerticalWall(W value) {
+    int wallY = (col%2 == 0 ? gridY+1 : gridY-1);
+    int slotA = Grid.convert(col - (col%2));
+    grid.setObject(slotA, wallY, value);
+    if (slotA+2 < Grid.convert((size*2)-1)) {
+      grid.setObject(slotA+2, wallY, value);
+    }
+  }
+
+  /**
+   * getter
+   *
+   * @return  x coordinate of the current cell
+   */
+  public int x() {
+    return col/2;
+  }
+
+  /**
+   * getter
+   *
+   * @return  y coordinate of the current cell
+   */
+  public int y() {
+    return y;
+  }
+
+  /**
+   * getter
+   *
+   * @return  slot of the current cell
+   */
+  public Slot slot() {
+    return (col%2 == 0 ? Slot.A : Slot.B);
+  }
+
+  /**
+   * getter
+   *
+   * @return  index of the current slot
+   *
+   * @see com.github.pirasleandro.containers.TriGrid#indexOf(int, int, Slot)
+   */
+  public int index() {
+    return index;
+  }
+}
@@ -2,6 +2,10 @@ package com.github.pirasleandro.containers;
 
 import com.github.pirasleandro.characters.Ansi;
 import com.github.pirasleandro.characters.Box;
+import java.util.BitSet;
+import java.util.Objects;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * @author Leandro Piras
@@ -35,6 +39,33 @@ public class TriGrid<T,W> {
     grid = new Grid<T,W>((size*2)-1, size);
   }
 
+  /**
+   * A constructor wrapping an existing Grid.
+   * 
+   * @param size  size of the TriGrid
+   * @param grid  grid of the TriGrid
+   */
+  private TriGrid(int size, Grid<T,W> grid) {
+    this.size = size;
+    this.grid = grid;
+  }
+
+  /**
+   * A constructor using the given Grid as storage, e.g. a grid with a more compact storage like a
+   * {@link com.github.pirasleandro.containers.DictionaryGrid}. The Grid must be exactly
+   * (size*2)-1 wide and size high, its current values are kept.
+   * 
+   * @param grid  grid the slots and walls will be stored in
+   * 
+   * @throws IllegalArgumentException if the Grid doesn't have the size of a TriGrid
+   */
+  public TriGrid(Grid<T,W> grid) {
+    this(grid.getHeight(), grid);
+    if (grid.getWidth() != (grid.getHeight()*2)-1) {
+      throw new IllegalArgumentException("a grid of size " + grid.getWidth() + "/" + grid.getHeight() + " can't store a TriGrid. Must be (size*2)-1/size.");
+    }
+  }
+
   /**
    * A constructor that additionally sets all values to the given default values
    * 
@@ -77,6 +108,22 @@ public class TriGrid<T,W> {
     set(triPoint.x, triPoint.y, triPoint.slot, value);
   }
 
+  /**
+   * A method used to set the value of the slot at the given index.
+   * 
+   * @param index index of the slot
+   * @param value value the slot will be set to
+   * 
+   * @throws IndexOutOfBoundsException if there is no slot with the index
+   * 
+   * @see com.github.pirasleandro.containers.TriGrid#indexOf(int, int, Slot)
+   */
+  public void set(int index, T value) {
+    Objects.checkIndex(index, size*size);
+    int y = rowOf(index);
+    grid.set(index - (y*y), y, value);
+  }
+
   /**
    * A method used to set the value of the wall in the given direction relative to the given slot
    * of the cell at the given coordinates.
@@ -222,6 +269,130 @@ public class TriGrid<T,W> {
     }
   }
 
+  /**
+   * A method used to set all values to the given default values with a single fill of the Grid.
+   * Slots outside of the triangle are set as well. On an {@link com.github.pirasleandro.containers.EpochGrid}
+   * this takes O(1).
+   * 
+   * @param defaultCell value all cells will be set to
+   * @param defaultWall value all walls will be set to
+   * 
+   * @see com.github.pirasleandro.containers.TriGrid#TriGrid(Grid)
+   * @see com.github.pirasleandro.containers.Grid#fill(Object, Object)
+   */
+  public void reset(T defaultCell, W defaultWall) {
+    grid.fill(defaultCell, defaultWall);
+  }
+
+  /**
+   * A method used to get a read-only snapshot of the current state of the TriGrid in O(1).
+   * Later changes to the TriGrid only copy the rows they touch, changing the snapshot
+   * throws an UnsupportedOperationException.
+   * 
+   * @return  read-only snapshot of the TriGrid
+   * 
+   * @see com.github.pirasleandro.containers.Grid#snapshot()
+   */
+  public TriGrid<T,W> snapshot() {
+    return new TriGrid<>(size, grid.snapshot());
+  }
+
+  /**
+   * A method used to enable or disable tracking which slots and walls are written.
+   * 
+   * @param enabled true to track changes, false to stop tracking them
+   * 
+   * @see com.github.pirasleandro.containers.TriGrid#drainDirty()
+   */
+  public void trackChanges(boolean enabled) {
+    grid.trackChanges(enabled);
+  }
+
+  /**
+   * A method used to determine if changes are tracked.
+   * 
+   * @return  true if they're tracked, false if they're not
+   */
+  public boolean isTrackingChanges() {
+    return grid.isTrackingChanges();
+  }
+
+  /**
+   * A method used to get all slots that were written since the last call and to start over.
+   * A slot counts as written if its value or one of its walls was written, the walls of slots A
+   * and B are stored together, so the slots next to a written wall may be contained as well.
+   * 
+   * @return  BitSet of the indices of the written slots
+   * 
+   * @throws IllegalStateException if changes are not tracked
+   * 
+   * @see com.github.pirasleandro.containers.TriGrid#indexOf(int, int, Slot)
+   */
+  public BitSet drainDirty() {
+    BitSet written = grid.drainDirty();
+    BitSet output = new BitSet(size*size);
+    int cols = Grid.convert(grid.getWidth());
+    for (int i = written.nextSetBit(0); i >= 0; i = written.nextSetBit(i+1)) {
+      int x = i%cols;
+      int y = i/cols;
+      if (y%2 == 1) {
+        // a cell or the wall between two slots of the same row
+        int row = Grid.convertBack(y);
+        if (x%2 == 1) {
+          markSlot(output, Grid.convertBack(x), row);
+        } else {
+          markSlot(output, (x/2)-1, row);
+          markSlot(output, x/2, row);
+        }
+      } else if (x%2 == 1) {
+        // the wall between two rows
+        markSlot(output, Grid.convertBack(x), (y/2)-1);
+        markSlot(output, Grid.convertBack(x), y/2);
+      }
+    }
+    return output;
+  }
+
+  private void markSlot(BitSet output, int col, int row) {
+    if (row >= 0 && row < size && col >= 0 && col <= row*2) {
+      output.set((row*row)+col);
+    }
+  }
+
+  /**
+   * A method used to enable or disable maintaining the hash of the content of the TriGrid.
+   * 
+   * @param enabled true to maintain the hash, false to stop maintaining it
+   * 
+   * @see com.github.pirasleandro.containers.Grid#trackHash(boolean)
+   */
+  public void trackHash(boolean enabled) {
+    grid.trackHash(enabled);
+  }
+
+  /**
+   * A method used to get a 64 bit hash of all slots and walls of the TriGrid.
+   * 
+   * @return  hash of the content
+   * 
+   * @see com.github.pirasleandro.containers.Grid#contentHash()
+   */
+  public long contentHash() {
+    return grid.contentHash();
+  }
+
+  /**
+   * A method used to determine if the TriGrid has the same size, slots and walls as the given TriGrid.
+   * 
+   * @param other TriGrid to be compared with
+   * @return      true if the content is equal, false if it's not
+   * 
+   * @see com.github.pirasleandro.containers.Grid#contentEquals(Grid)
+   */
+  public boolean contentEquals(TriGrid<?,?> other) {
+    return other != null && grid.contentEquals(other.grid);
+  }
+
   /**
    * A method used to calculate the direction which the second slot is relative to the first slot.
    * 
@@ -272,6 +443,7 @@ public class TriGrid<T,W> {
 
   /**
    * A method to determine if the given coordinates are valid.
+   * Slots A exist for x from 0 to y, slots B for x from 0 to y-1.
    * 
    * @param x     x coordinate
    * @param y     y coordinate
@@ -285,7 +457,7 @@ public class TriGrid<T,W> {
     if (slot.isA()) {
       return (y >= x);
     } else {
-      return (y > x || hasTwoSlots(x, y));
+      return (y > x);
     }
   }
 
@@ -423,6 +595,173 @@ public class TriGrid<T,W> {
     return get(point.x, point.y, point.slot);
   }
 
+  /**
+   * A method used to get an Object with the value of the slot at the given index.
+   * 
+   * @param index index of the slot
+   * @return      Object with the value of the slot
+   * 
+   * @throws IndexOutOfBoundsException if there is no slot with the index
+   * 
+   * @see com.github.pirasleandro.containers.TriGrid#indexOf(int, int, Slot)
+   */
+  public Object get(int index) {
+    Objects.checkIndex(index, size*size);
+    int y = rowOf(index);
+    return grid.get(index - (y*y), y);
+  }
+
+  /**
+   * A method used to get a Stream of the values of all slots, row by row from left to right.
+   * The Stream splits into bands of rows, so it can be processed in parallel.
+   * 
+   * @return  Stream of the slot values
+   * 
+   * @see com.github.pirasleandro.containers.TriGrid#indexOf(int, int, Slot)
+   */
+  @SuppressWarnings("unchecked")
+  public Stream<T> cells() {
+    return StreamSupport.stream(new GridSpliterator<T>(0, (long) size*size,
+      i -> {
+        int y = rowOf((int) i);
+        return (T) grid.getObject(Grid.convert((int) i - (y*y)), Grid.convert(y));
+      },
+      i -> {
+        long y = rowOf((int) i);
+        return y*y;
+      }), false);
+  }
+
+  /**
+   * A method used to get a Stream of all wall values. Every wall is contained once, row by row
+   * the left walls of the slots are followed by the right wall of the last slot and the lower walls
+   * of the slots A.
+   * The Stream splits into bands of rows, so it can be processed in parallel.
+   * 
+   * @return  Stream of the wall values
+   */
+  @SuppressWarnings("unchecked")
+  public Stream<W> walls() {
+    return StreamSupport.stream(new GridSpliterator<W>(0, 3L*size*(size+1)/2,
+      i -> {
+        int y = wallRowOf(i);
+        int col = (int) (i - (3L*y*(y+1)/2));
+        if (col <= y*2) {
+          return (W) grid.getWall(col, y, Direction.LEFT);
+        } else if (col == (y*2)+1) {
+          return (W) grid.getWall(y*2, y, Direction.RIGHT);
+        } else {
+          return (W) grid.getWall((col-(y*2)-2)*2, y, Direction.DOWN);
+        }
+      },
+      i -> {
+        long y = wallRowOf(i);
+        return 3*y*(y+1)/2;
+      }), false);
+  }
+
+  /**
+   * A method used to get the row of the wall at the given index of {@link #walls()}.
+   * Row y starts at index 3*y*(y+1)/2.
+   * 
+   * @param index index of the wall
+   * @return      row of the wall
+   */
+  private static int wallRowOf(long index) {
+    int y = (int) ((Math.sqrt(1 + (8.0*index/3)) - 1) / 2);
+    while (3L*(y+1)*(y+2)/2 <= index) {
+      y++;
+    }
+    while (3L*y*(y+1)/2 > index) {
+      y--;
+    }
+    return y;
+  }
+
+  /**
+   * A method used to visit all slots with their coordinates, row by row from left to right.
+   * 
+   * @param visitor visitor called for every slot
+   */
+  @SuppressWarnings("unchecked")
+  public void forEachCell(TriCellVisitor<? super T> visitor) {
+    for (int y = 0; y < size; y++) {
+      for (int col = 0; col <= y*2; col++) {
+        visitor.visit(col/2, y, getSlot(col), (T) grid.getObject(Grid.convert(col), Grid.convert(y)));
+      }
+    }
+  }
+
+  /**
+   * A method used to get the index of the given slot if all slots are numbered row by row from left to right.
+   * Row y holds the 2*y+1 slots from the index y*y on, so a TriGrid of the given size has size*size slots.
+   * 
+   * @param x     x coordinate of the cell
+   * @param y     y coordinate of the cell
+   * @param slot  slot of the cell
+   * @return      index of the slot
+   */
+  public static int indexOf(int x, int y, Slot slot) {
+    return (y*y) + (x*2) + (slot.isA() ? 0 : 1);
+  }
+
+  /**
+   * A method used to get the row of the slot at the given index.
+   * 
+   * @param index index of the slot
+   * @return      y coordinate of the slot
+   * 
+   * @see com.github.pirasleandro.containers.TriGrid#indexOf(int, int, Slot)
+   */
+  public static int rowOf(int index) {
+    int y = (int) Math.sqrt(index);
+    while ((y+1)*(y+1) <= index) {
+      y++;
+    }
+    while (y*y > index) {
+      y--;
+    }
+    return y;
+  }
+
+  /**
+   * A method used to get the TriPoint of the slot at the given index.
+   * 
+   * @param index index of the slot
+   * @return      TriPoint of the slot
+   * 
+   * @see com.github.pirasleandro.containers.TriGrid#indexOf(int, int, Slot)
+   */
+  public static TriPoint pointOf(int index) {
+    int y = rowOf(index);
+    int col = index - (y*y);
+    return new TriPoint(col/2, y, getSlot(col));
+  }
+
+  /**
+   * A method used to get the precomputed edge and vertex neighbours of all slots of this TriGrid.
+   * The tables are shared between all TriGrids of the same size.
+   * 
+   * @return  neighbour tables of the size of this TriGrid
+   * 
+   * @see com.github.pirasleandro.containers.TriAdjacency#of(int)
+   */
+  public TriAdjacency adjacency() {
+    return TriAdjacency.of(size);
+  }
+
+  /**
+   * A method used to get a cursor over all slots, row by row from left to right.
+   * The cursor reads and writes the current slot and its walls without validating the coordinates.
+   * 
+   * @return  cursor in front of the first slot
+   * 
+   * @see com.github.pirasleandro.containers.TriCursor
+   */
+  public TriCursor<T,W> cursor() {
+    return new TriCursor<>(grid, size);
+  }
+
   /**
    * A method used to get the wall in the given direction relative to the cell at the given coordinates
    * 
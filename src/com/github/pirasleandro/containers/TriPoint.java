@@ -126,6 +126,7 @@ public class TriPoint extends Point {
 
   /**
    * An overridden method used to compare the TriPoint to the given TriPoint.
+   * A TriPoint is never equal to a Point that isn't a TriPoint, since the Point has no slot.
    * 
    * @param obj the object to be compared
    * 
@@ -137,7 +138,19 @@ public class TriPoint extends Point {
       TriPoint pt = (TriPoint)obj;
       return (x == pt.x) && (y == pt.y) && (slot == pt.slot);
     }
-    return super.equals(obj);
+    return false;
+  }
+
+  /**
+   * An overridden method used to get a hash code that includes the slot, so the TriPoints of both slots
+   * of a cell don't collide.
+   * 
+   * @see Object#hashCode()
+   */
+  @Override
+  public int hashCode() {
+    long key = ((long) y << 32) ^ ((long) x << 2) ^ (slot == null ? 0 : slot.ordinal()+1);
+    return Long.hashCode(key * 0x9E3779B97F4A7C15L);
   }
 
   /**
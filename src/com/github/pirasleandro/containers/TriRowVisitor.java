@@ -0,0 +1,22 @@
+package com.github.pirasleandro.containers;
+
+/**
+ * @author Leandro Piras
+ * @version 1.1
+ *
+ * Functional interface used to visit the rows of a packed triangular array as ranges of indices,
+ * so a row can be processed with a plain loop or a bulk array operation.
+ *
+ * @see com.github.pirasleandro.containers.AbstractTriArray#forEachRow(TriRowVisitor)
+ */
+@FunctionalInterface
+public interface TriRowVisitor {
+  /**
+   * A method called once for every row.
+   *
+   * @param y     y coordinate of the row
+   * @param from  index of the first slot of the row, inclusive
+   * @param to    index after the last slot of the row, exclusive
+   */
+  void visit(int y, int from, int to);
+}
@@ -0,0 +1,25 @@
+package com.github.pirasleandro.containers;
+
+/**
+ * @author Leandro Piras
+ * @version 1.1
+ * 
+ * Functional interface used to visit the walls of a grid together with the coordinates of a cell
+ * they belong to and their direction relative to that cell.
+ * 
+ * @see com.github.pirasleandro.containers.Grid#forEachWall(WallVisitor)
+ * 
+ * @param W type of the wall values
+ */
+@FunctionalInterface
+public interface WallVisitor<W> {
+  /**
+   * A method called once for every wall.
+   * 
+   * @param x         x coordinate of the cell
+   * @param y         y coordinate of the cell
+   * @param direction direction of the wall relative to the cell
+   * @param value     value of the wall
+   */
+  void visit(int x, int y, Direction direction, W value);
+}
@@ -1,11 +1,8 @@
 package com.github.pirasleandro.containers.games;
 
-import java.util.ArrayList;
-import java.util.Random;
-import java.util.Stack;
-
 import com.github.pirasleandro.characters.*;
 import com.github.pirasleandro.containers.AdvGrid;
+import com.github.pirasleandro.containers.BitWallGrid;
 import com.github.pirasleandro.containers.Direction;
 import com.github.pirasleandro.containers.Grid;
 
@@ -16,6 +13,9 @@ import java.awt.Point;
  * @version 1.1
  * 
  * Class used to generate and print mazes.
+ * The maze is generated by a {@link com.github.pirasleandro.containers.games.MazeGenerator} and copied into
+ * an AdvGrid, which holds an Object reference for every cell, wall and corner, about 400 million
+ * references for 10000x10000 cells. Large mazes should use the BitWallGrid of the MazeGenerator instead.
  */
 public class Maze {
   // grid in which all values representing the maze will be stored in
@@ -34,73 +34,46 @@ public class Maze {
    * @param height  height of the maze
    */
   public Maze(int width, int height) {
-    this.width = width;
-    this.height = height;
-    this.grid = new AdvGrid<>(width, height, true, true, true);
-    generate();
+    this(width, height, new MazeGenerator(width, height));
   }
 
   /**
-   * A method used to generate the maze
+   * A constructor that generates the maze after the given seed.
+   * 
+   * @param width   width of the maze
+   * @param height  height of the maze
+   * @param seed    long seed used to generate the maze
    */
-  private void generate() {
-    Stack<Point> log = new Stack<>();
-    ArrayList<Point> visited = new ArrayList<>();
-    ArrayList<Point> options = new ArrayList<>();
-    Random random = new Random();
-    start = new Point(0,0);
-    log.add(start);
-    int biggestLogSize = 0;
-    visited.add(start);
-    grid.set(start, false);
-    while(log.size() > 0) {
-      Point current = log.peek();
-      options = findOptions(current);
-      if (options.size() == 0) {
-        if (log.size() > biggestLogSize) {
-          biggestLogSize = log.size();
-          end = log.peek();
-        }
-        log.pop();
-        continue;
-      }
-      Point next = options.get(random.nextInt(options.size()));
-      grid.setWall(current.x, current.y, grid.calcDirection(current.x, current.y, next.x, next.y), false);
-      grid.set(next, false);
-      log.add(next);
-      visited.add(next);
-    }
+  public Maze(int width, int height, long seed) {
+    this(width, height, new MazeGenerator(width, height, seed));
+  }
+
+  private Maze(int width, int height, MazeGenerator generator) {
+    this.width = width;
+    this.height = height;
+    this.grid = new AdvGrid<>(width, height, true, true, true);
+    generate(generator);
   }
 
   /**
-   * A method used in {@link #generate()} to find the cursors available options for the next cell.
+   * A method used to generate the maze with the given generator and to copy it into the {@link #grid}.
+   * Only the generation is flat, the copy needs the full AdvGrid.
+   * 
+   * @param generator generator of the maze
    * 
-   * @param current Point of the cell whose options are asked for
-   * @return        ArrayList<Point> of all options
+   * @see com.github.pirasleandro.containers.games.MazeGenerator#generate(int, int)
    */
-  private ArrayList<Point> findOptions(Point current) {
-    ArrayList<Point> options = new ArrayList<>();
-    if (grid.areCordsValid(current.x+1, current.y)) {
-      if (grid.get(current.x+1, current.y).equals(true)) {
-        options.add(new Point(current.x+1, current.y));
-      }
-    }
-    if (grid.areCordsValid(current.x, current.y+1)) {
-      if (grid.get(current.x, current.y+1).equals(true)) {
-        options.add(new Point(current.x, current.y+1));
-      }
-    }
-    if (grid.areCordsValid(current.x-1, current.y)) {
-      if (grid.get(current.x-1, current.y).equals(true)) {
-        options.add(new Point(current.x-1, current.y));
-      }
-    }
-    if (grid.areCordsValid(current.x, current.y-1)) {
-      if (grid.get(current.x, current.y-1).equals(true)) {
-        options.add(new Point(current.x, current.y-1));
+  private void generate(MazeGenerator generator) {
+    start = new Point(0,0);
+    BitWallGrid walls = generator.generate(start.x, start.y);
+    end = generator.getEnd();
+    for (int y = 0; y < height; y++) {
+      for (int x = 0; x < width; x++) {
+        grid.set(x, y, false);
+        grid.setWall(x, y, Direction.RIGHT, walls.getWall(x, y, Direction.RIGHT));
+        grid.setWall(x, y, Direction.DOWN, walls.getWall(x, y, Direction.DOWN));
       }
     }
-    return options;
   }
 
   /**
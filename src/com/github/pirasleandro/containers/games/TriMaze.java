@@ -1,11 +1,13 @@
 package com.github.pirasleandro.containers.games;
 
-import java.util.ArrayList;
 import java.util.Stack;
 
 import com.github.pirasleandro.characters.*;
+import com.github.pirasleandro.containers.DictionaryGrid;
 import com.github.pirasleandro.containers.Direction;
 import com.github.pirasleandro.containers.Slot;
+import com.github.pirasleandro.containers.TriAdjacency;
+import com.github.pirasleandro.containers.TriCursor;
 import com.github.pirasleandro.containers.TriGrid;
 import com.github.pirasleandro.containers.TriPoint;
 
@@ -76,7 +78,8 @@ public class TriMaze {
     this.size = size;
     this.seed = 0;
     useSeed = false;
-    grid = new TriGrid<>(size,true,true);
+    grid = new TriGrid<>(new DictionaryGrid<Boolean,Boolean,Object>((size*2)-1, size));
+    grid.fill(true, true);
     if (!debugMode) {
       generate();
     }
@@ -107,7 +110,8 @@ public class TriMaze {
     this.size = size;
     this.seed = seed;
     useSeed = true;
-    grid = new TriGrid<>(size,true,true);
+    grid = new TriGrid<>(new DictionaryGrid<Boolean,Boolean,Object>((size*2)-1, size));
+    grid.fill(true, true);
     if (!debugMode) {
       generate();
     }
@@ -132,8 +136,8 @@ public class TriMaze {
    */
   private void generate() {
     Stack<TriPoint> log = new Stack<>();
-    ArrayList<TriPoint> visited = new ArrayList<>();
-    ArrayList<TriPoint> options = new ArrayList<>();
+    // slot indices of the neighbours that can be gone to, a slot has up to 3 edge neighbours
+    int[] options = new int[3];
     Random random;
     if (useSeed) {
       random = new Random(seed);
@@ -142,12 +146,11 @@ public class TriMaze {
     }
     log.add(start);
     int biggestLogSize = 0;
-    visited.add(start);
     grid.set(start, false);
     while(log.size() > 0) {
       TriPoint current = log.peek();
-      options = findOptions(current);
-      if (options.size() == 0) {
+      int optionCount = findOptions(current, options);
+      if (optionCount == 0) {
         if (log.size() > biggestLogSize) {
           biggestLogSize = log.size();
           end = log.peek();
@@ -155,11 +158,10 @@ public class TriMaze {
         log.pop();
         continue;
       }
-      TriPoint next = options.get(random.nextInt(options.size()));
+      TriPoint next = TriGrid.pointOf(options[random.nextInt(optionCount)]);
       grid.setWall(current, grid.calcDirection(current, next), false);
       grid.set(next, false);
       log.add(next);
-      visited.add(next);
     }
   }
 
@@ -167,26 +169,22 @@ public class TriMaze {
    * A method used by {@link #generate()} to find all possible neighbours of a cell to go to.
    * 
    * @param current TriPoint of current cell
-   * @return        ArrayList<Point> containing all possible neighbours
+   * @param options array the slot indices of the possible neighbours are written into
+   * @return        amount of possible neighbours
+   * 
+   * @see com.github.pirasleandro.containers.TriGrid#indexOf(int, int, Slot)
    */
-  private ArrayList<TriPoint> findOptions(TriPoint current) {
-    ArrayList<TriPoint> options = new ArrayList<>();
-    if (grid.areCordsValid(current.x, current.y, current.slot.other())) {
-      if (grid.get(current.x, current.y, current.slot.other()).equals(true)) {
-        options.add(new TriPoint(current.x, current.y, current.slot.other()));
-      }
-    }
-    if (grid.areCordsValid(current.slot.isA() ? current.x-1 : current.x+1, current.y, current.slot.other())) {
-      if (grid.get(current.slot.isA() ? current.x-1 : current.x+1, current.y, current.slot.other()).equals(true)) {
-        options.add(new TriPoint(current.slot.isA() ? current.x-1 : current.x+1, current.y, current.slot.other()));
+  private int findOptions(TriPoint current, int[] options) {
+    TriAdjacency adjacency = grid.adjacency();
+    int[] targets = adjacency.getEdgeTargets();
+    int index = TriGrid.indexOf(current.x, current.y, current.slot);
+    int count = 0;
+    for (int i = adjacency.edgeStart(index); i < adjacency.edgeEnd(index); i++) {
+      if (grid.get(targets[i]).equals(true)) {
+        options[count++] = targets[i];
       }
     }
-    if (grid.areCordsValid(current.x, current.slot.isA() ? current.y+1 : current.y-1, current.slot.other())) {
-      if (grid.get(current.x, current.slot.isA() ? current.y+1 : current.y-1, current.slot.other()).equals(true)) {
-        options.add(new TriPoint(current.x, current.slot.isA() ? current.y+1 : current.y-1, current.slot.other()));
-      }
-    }
-    return options;
+    return count;
   }
 
   /**
@@ -274,6 +272,7 @@ public class TriMaze {
   public void printCompact() {
     String slash = Box.slash;
     String bSlash = Box.bSlash;
+    TriCursor<Boolean,Boolean> slots = grid.cursor();
     for (int y = 0; y < size; y++) {
       System.out.print("\n");
       for (int i = 0; i < size-(y+1); i++) {
@@ -281,9 +280,15 @@ public class TriMaze {
       }
       System.out.print(" ");
       for (int x = 0; x < y+1; x++) {
-        boolean leftWall = (Boolean) grid.getWall(x, y, Slot.A, Direction.LEFT);
-        boolean rightWall = (Boolean) grid.getWall(x, y, Slot.A, Direction.RIGHT);
-        boolean lowerWall = (Boolean) grid.getWall(x, y, Slot.A, Direction.DOWN);
+        // the cursor stops at every slot, only the walls of slot A are printed,
+        // so the following slot B is stepped over with an extra next()
+        slots.next();
+        boolean leftWall = slots.getLeftWall();
+        boolean rightWall = slots.getRightWall();
+        boolean lowerWall = slots.getVerticalWall();
+        if (x < y) {
+          slots.next();
+        }
         boolean markA = (x == start.x && y == start.y && start.slot.isA()) || ((x == end.x && y == end.y && end.slot.isA()));
         boolean markNextB = (x == start.x && y == start.y && start.slot.isB()) || ((x == end.x && y == end.y && end.slot.isB()));
         boolean markLastB = (x-1 == start.x && y == start.y && start.slot.isB()) || ((x-1 == end.x && y == end.y && end.slot.isB()));
@@ -1,6 +1,8 @@
 package com.github.pirasleandro.containers.games;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 
 import com.github.pirasleandro.characters.Ansi;
 import com.github.pirasleandro.characters.Block;
@@ -48,6 +50,11 @@ public class TriMinesWeeperPrinter {
   private static final String boldFlag = Ansi.style(flag, Ansi.BOLD, Ansi.UNDERLINE);
   private static final String mark = "⚐";
   private static final String boldMark = Ansi.style(mark, Ansi.BOLD, Ansi.UNDERLINE);
+  // formatted rows of the last printed game, the last one is the lower border
+  private String[] rows;
+  private int lastCursorRow;
+  // line of the screen the first row of the board is printed on
+  private static final int BOARD_LINE = 5;
 
   @SuppressWarnings("unused")
   private TriMinesWeeperPrinter() {
@@ -57,59 +64,137 @@ public class TriMinesWeeperPrinter {
     this.game = game;
   }
 
+  /**
+   * The whole screen is only cleared and printed on the first call. Afterwards only the game info and the
+   * rows returned by {@link #changedRows()} are printed again, over their old lines, so the rest of the
+   * board stays on the screen.
+   */
   protected void printGame() {
-    Ansi.cls();
-    printGameInfo();
-    for (int y = 0; y < game.size; y++) {
-      //   ╳┈   ←
-      //  ╱x╲
-      // ╳───╳┈
-      System.out.print("\n" + "  ".repeat((game.size-y)-1) + "  ");
-      for (int x = 0; x < y+1; x++) {
-        //  ╳───
-        //  ↑
-        System.out.print(formatCross(x, y));
-        //  ╳───
-        //    ↑
-        if (TriGrid.hasTwoSlots(x, y)) {
-          System.out.print(formatDash(x, y));
-        }
+    boolean firstPrint = (rows == null);
+    boolean[] changed = changedRows();
+    StringBuilder outputBuilder = new StringBuilder();
+    if (firstPrint) {
+      Ansi.cls();
+      outputBuilder.append(formatGameInfo());
+    } else {
+      String[] infoLines = formatGameInfo().split("\n", -1);
+      for (int line = 0; line < infoLines.length-1; line++) {
+        outputBuilder.append(Ansi.cursorTo(line+1, 1) + Ansi.eraseLine() + infoLines[line]);
       }
-      //   ╳┈
-      //  ╱x╲   ←
-      // ╳───╳┈
-      System.out.print("\n" + "  ".repeat((game.size-y)-1) + " ");
-      for (int x = 0; x < y+1; x++) {
-        //  ╱x╲x
-        //  ↑
-        System.out.print(formatSlash(x, y));
-        //  ╱x╲x
-        //   ↑
-        System.out.print(formatCell(x, y, Slot.A));
-        //  ╱x╲x
-        //    ↑
-        System.out.print(formatBackSlash(x, y));
-        //  ╱x╲x
-        //     ↑
-        if (TriGrid.hasTwoSlots(x, y)) {
-          System.out.print(formatCell(x, y, Slot.B));
+    }
+    for (int y = 0; y < game.size+1; y++) {
+      if (!changed[y]) {
+        continue;
+      }
+      rows[y] = (y < game.size ? formatRow(y) : formatLowerBorder());
+      if (firstPrint) {
+        outputBuilder.append(rows[y]);
+      } else {
+        // every row starts with a line break, so its first line is the line below the end of the row above
+        String[] lines = rows[y].substring(1).split("\n", -1);
+        for (int line = 0; line < lines.length; line++) {
+          outputBuilder.append(Ansi.cursorTo(lineOf(y)+line, 1) + Ansi.eraseLine() + lines[line]);
         }
       }
     }
+    // the input is read below the board, the old input is erased
+    outputBuilder.append(Ansi.cursorTo(lineOf(game.size)+1, 1) + Ansi.eraseBelow());
+    System.out.print(outputBuilder.toString());
+    System.out.flush();
+  }
+
+  /**
+   * A method used to get the line of the screen the given row starts on. The board starts below the
+   * game info and an empty line, every row takes two lines and the lower border one.
+   */
+  private int lineOf(int y) {
+    return (BOARD_LINE + (y*2));
+  }
+
+  /**
+   * Rows are only formatted again if a slot within two rows of them changed or the cursor
+   * was or is within two rows of them, since highlights and too-many-flags warnings reach that far.
+   */
+  private boolean[] changedRows() {
+    boolean[] changed = new boolean[game.size+1];
+    BitSet changedSlots = game.board.drainDirty();
+    changedSlots.or(game.cover.drainDirty());
+    if (rows == null) {
+      rows = new String[game.size+1];
+      Arrays.fill(changed, true);
+    } else {
+      for (int i = changedSlots.nextSetBit(0); i >= 0; i = changedSlots.nextSetBit(i+1)) {
+        markRows(changed, TriGrid.rowOf(i));
+      }
+      markRows(changed, lastCursorRow);
+      markRows(changed, game.cursor.y);
+    }
+    lastCursorRow = game.cursor.y;
+    return changed;
+  }
+
+  private void markRows(boolean[] changed, int y) {
+    for (int i = Math.max(0, y-2); i <= Math.min(game.size, y+2); i++) {
+      changed[i] = true;
+    }
+  }
+
+  private String formatRow(int y) {
+    StringBuilder rowBuilder = new StringBuilder();
+    //   ╳┈   ←
+    //  ╱x╲
+    // ╳───╳┈
+    rowBuilder.append("\n" + "  ".repeat((game.size-y)-1) + "  ");
+    for (int x = 0; x < y+1; x++) {
+      //  ╳───
+      //  ↑
+      rowBuilder.append(formatCross(x, y));
+      //  ╳───
+      //    ↑
+      if (TriGrid.hasTwoSlots(x, y)) {
+        rowBuilder.append(formatDash(x, y));
+      }
+    }
+    //   ╳┈
+    //  ╱x╲   ←
+    // ╳───╳┈
+    rowBuilder.append("\n" + "  ".repeat((game.size-y)-1) + " ");
+    for (int x = 0; x < y+1; x++) {
+      //  ╱x╲x
+      //  ↑
+      rowBuilder.append(formatSlash(x, y));
+      //  ╱x╲x
+      //   ↑
+      rowBuilder.append(formatCell(x, y, Slot.A));
+      //  ╱x╲x
+      //    ↑
+      rowBuilder.append(formatBackSlash(x, y));
+      //  ╱x╲x
+      //     ↑
+      if (TriGrid.hasTwoSlots(x, y)) {
+        rowBuilder.append(formatCell(x, y, Slot.B));
+      }
+    }
+    return rowBuilder.toString();
+  }
+
+  private String formatLowerBorder() {
+    StringBuilder rowBuilder = new StringBuilder();
     //   ╳┈
     //  ╱x╲
     // ╳───╳┈ ←
-    System.out.print("\n");
+    rowBuilder.append("\n");
     for (int x = 0; x < game.size+1; x++) {
       //  ╳───
       //  ↑
-      System.out.print(formatCross(x, game.size));
+      rowBuilder.append(formatCross(x, game.size));
       //  ╳───
       //    ↑
       if (TriGrid.hasTwoSlots(x, game.size)) {
-        System.out.print(formatDash(x, game.size));
+        rowBuilder.append(formatDash(x, game.size));
       }
     }
+    return rowBuilder.toString();
   }
 
   /**
@@ -279,11 +364,11 @@ public class TriMinesWeeperPrinter {
     }
   }
 
-  private void printGameInfo() {
-    System.out.println(
+  private String formatGameInfo() {
+    return (
       "[" + game.cursor.x + "/" + game.cursor.y + "/" + game.cursor.slot + "] " + 
-      "mines left:" + (game.totalMines - game.mistakes - game.flags) + "\n");
-    System.out.println(formatMistakes());
+      "mines left:" + (game.totalMines - game.mistakes - game.flags) + "\n\n" +
+      formatMistakes() + "\n");
   }
 
   private static final String fiveMistakes = Box.vh.repeat(4);
@@ -4,10 +4,13 @@ import java.util.ArrayList;
 import java.util.Random;
 import java.util.Scanner;
 
+import com.github.pirasleandro.containers.DictionaryGrid;
 import com.github.pirasleandro.containers.Direction;
 import com.github.pirasleandro.containers.Slot;
+import com.github.pirasleandro.containers.TriAdjacency;
 import com.github.pirasleandro.containers.TriGrid;
 import com.github.pirasleandro.containers.TriPoint;
+import com.github.pirasleandro.tweaks.IntHashSet;
 
 public class TriMinesweeper {
   protected int size;
@@ -19,6 +22,10 @@ public class TriMinesweeper {
     MARKED;
   }
   protected TriGrid<Cover,Boolean> cover;
+  // grid backing the cover, whose packed codes can be counted without decoding them
+  private DictionaryGrid<Cover,Boolean,Object> coverCodes;
+  // neighbours of the slots of the board, over the slot indices
+  private TriAdjacency adjacency;
   protected int totalMines;
   protected int flags;
   protected int mistakes;
@@ -41,7 +48,12 @@ public class TriMinesweeper {
     flags = 0;
     mistakes = 0;
     board = new TriGrid<>(size, new MinesWeeperCell(), null);
-    cover = new TriGrid<>(size, Cover.COVERED, null);
+    coverCodes = new DictionaryGrid<>((size*2)-1, size);
+    cover = new TriGrid<>(coverCodes);
+    cover.fill(Cover.COVERED, null);
+    adjacency = board.adjacency();
+    board.trackChanges(true);
+    cover.trackChanges(true);
     cursor = new TriPoint(TriGrid.getCenterCords(size));
     printer = new TriMinesWeeperPrinter(this);
   }
@@ -70,45 +82,51 @@ public class TriMinesweeper {
   }
 
   private void generate(TriPoint cursor) {
-    ArrayList<TriPoint> options = new ArrayList<>();
-    for (int y = 0; y < size; y++) {
-      for (int x = 0; x < y+1; x++) {
-        options.add(new TriPoint(x, y, Slot.A));
-        if (TriGrid.hasTwoSlots(x, y)) {
-          options.add(new TriPoint(x, y, Slot.B));
-        }
+    int[] targets = adjacency.getVertexTargets();
+    int start = TriGrid.indexOf(cursor.x, cursor.y, cursor.slot);
+    IntHashSet excluded = new IntHashSet(13);
+    excluded.add(start);
+    for (int i = adjacency.vertexStart(start); i < adjacency.vertexEnd(start); i++) {
+      excluded.add(targets[i]);
+    }
+    // slot indices run row by row from left to right
+    int[] options = new int[size*size];
+    int count = 0;
+    for (int index = 0; index < size*size; index++) {
+      if (!excluded.contains(index)) {
+        options[count++] = index;
       }
     }
-    options.remove(cursor);
-    options.removeAll(neighbourCordsOf(cursor));
     for (int i = 0; i < totalMines; i++) {
-      TriPoint randomPoint = new TriPoint(options.get(random.nextInt(options.size())));
-      MinesWeeperCell temp = new MinesWeeperCell((MinesWeeperCell) board.get(randomPoint));
+      // takes a random option and moves the last option into its place
+      int pick = random.nextInt(count);
+      int index = options[pick];
+      options[pick] = options[--count];
+      MinesWeeperCell temp = new MinesWeeperCell((MinesWeeperCell) board.get(index));
       temp.setMine(true);
-      board.set(randomPoint, temp);
-      informNeighbours(randomPoint);
-      options.remove(randomPoint);
+      board.set(index, temp);
+      informNeighbours(index);
     }
     isGenerated = true;
   }
 
-  private void informNeighbours(TriPoint point) {
-    for (TriPoint triPoint : neighbourCordsOf(point)) {
-      increaseMinesNearby(triPoint);
+  private void informNeighbours(int index) {
+    int[] targets = adjacency.getVertexTargets();
+    for (int i = adjacency.vertexStart(index); i < adjacency.vertexEnd(index); i++) {
+      increaseMinesNearby(targets[i]);
     }
   }
 
-  private void increaseMinesNearby (TriPoint point) {
+  private void increaseMinesNearby(int index) {
     MinesWeeperCell temp = new MinesWeeperCell();
-    if (board.areCordsValid(point)) {
-      if (board.get(point) instanceof MinesWeeperCell) {
-        temp = new MinesWeeperCell((MinesWeeperCell) board.get(point));
-      } else {
-        System.out.println("NOT CELL[x:" + point.x + " y:" + point.y + " slot:" + point.slot);
-      }
-      temp.minesNearby++;
-      board.set(point, temp);
+    if (board.get(index) instanceof MinesWeeperCell) {
+      temp = new MinesWeeperCell((MinesWeeperCell) board.get(index));
+    } else {
+      TriPoint point = TriGrid.pointOf(index);
+      System.out.println("NOT CELL[x:" + point.x + " y:" + point.y + " slot:" + point.slot);
     }
+    temp.minesNearby++;
+    board.set(index, temp);
   }
 
   private void move(Direction direction) {
@@ -241,25 +259,26 @@ public class TriMinesweeper {
   /**
    * A method used to allow the player to uncover a cell if they believe it not to be a mine.
    * Changes the {@code Cover} enum of the MinesweeperCell at the specified TriPoint to {@code Cover.UNCOVERED}
-   * if it is neither flagged nor marked. Triggers the recursive function {@link #uncoverChain(TriPoint)}
+   * if it is neither flagged nor marked. Triggers the recursive function {@link #uncoverChain(int)}
    * if the cells nearby mines is 0.
    * 
-   * @see com.github.pirasleandro.containers.games.TriMinesweeper#uncoverChain(TriPoint)
+   * @see com.github.pirasleandro.containers.games.TriMinesweeper#uncoverChain(int)
    */
   private void uncover(TriPoint current) {
     if (!isGenerated) {
       generate(current);
     }
+    int index = TriGrid.indexOf(current.x, current.y, current.slot);
     if (cover.get(current).equals(Cover.COVERED)) {
-      uncoverChain(current);
+      uncoverChain(index);
     } else if (
       cover.get(current).equals(Cover.UNCOVERED) && (
         neighboursAtCoverstate(current, Cover.FLAGGED) + uncoveredMinesAround(current) == minesNearbyOf(current) || 
         neighboursAtCoverstate(current, Cover.MARKED) > 0) &&
       neighboursAtCoverstate(current, Cover.COVERED) > 0) {
-        ArrayList<TriPoint> neighbours = neighbourCordsOf(current);
-        for (TriPoint neighbour : neighbours) {
-          uncoverChain(neighbour);
+        int[] targets = adjacency.getVertexTargets();
+        for (int i = adjacency.vertexStart(index); i < adjacency.vertexEnd(index); i++) {
+          uncoverChain(targets[i]);
         }
     }
   }
@@ -272,25 +291,27 @@ public class TriMinesweeper {
    * A recursive method used to uncover clusters of cells with no mines nearby.
    * Triggered by {@link #uncover()}.
    * 
-   * @param current TriPoint of the current cell
+   * @param index slot index of the current cell
    * 
    * @see com.github.pirasleandro.containers.games.TriMinesweeper#uncover()
+   * @see com.github.pirasleandro.containers.TriGrid#indexOf(int, int, Slot)
    */
-  private void uncoverChain(TriPoint current) {
+  private void uncoverChain(int index) {
     MinesWeeperCell currentCell = new MinesWeeperCell();
-    if (board.get(current) instanceof MinesWeeperCell) {
-      currentCell = (MinesWeeperCell) board.get(current);
+    if (board.get(index) instanceof MinesWeeperCell) {
+      currentCell = (MinesWeeperCell) board.get(index);
     } else {
-      throw new IndexOutOfBoundsException(current.toString() + " is not a cell");
+      throw new IndexOutOfBoundsException(TriGrid.pointOf(index).toString() + " is not a cell");
     }
-    if (cover.get(current).equals(Cover.COVERED)) {
-      cover.set(current, Cover.UNCOVERED);
-      if (isMine(current)) {
+    if (cover.get(index).equals(Cover.COVERED)) {
+      cover.set(index, Cover.UNCOVERED);
+      if (currentCell.isMine) {
         mistakes++;
       }
       if (currentCell.getMinesNearby() == 0 && !currentCell.isMine) {
-        for (TriPoint next : neighbourCordsOf(current)) {
-          uncoverChain(next);
+        int[] targets = adjacency.getVertexTargets();
+        for (int i = adjacency.vertexStart(index); i < adjacency.vertexEnd(index); i++) {
+          uncoverChain(targets[i]);
         }
       }
     }
@@ -331,13 +352,9 @@ public class TriMinesweeper {
 
   private int coveredCells() {
     int count = 0;
+    // the slots A of row y are every other cell of the columns 0 to 2*y
     for (int y = 0; y < size; y++) {
-      for (int x = 0; x < y+1; x++) {
-        Cover current = (Cover) cover.get(x, y, Slot.A);
-        if (current.equals(Cover.COVERED)) {
-          count++;
-        }
-      }
+      count += coverCodes.countCells(Cover.COVERED, y, 0, (y*2)+1, 2);
     }
     return count;
   }
@@ -390,31 +407,13 @@ public class TriMinesweeper {
   }
 
   protected static ArrayList<TriPoint> neighbourCordsOf(TriPoint point, TriGrid<MinesWeeperCell,Boolean> board) {
-    int x = point.x;
-    int y = point.y;
-    Slot slot = point.slot;
-    ArrayList<TriPoint> output = new ArrayList<>();
-    if (board.areCordsValid(x-1, y-1, Slot.A))  output.add(new TriPoint(x-1, y-1, Slot.A));
-    if (board.areCordsValid(x-1, y-1, Slot.B))  output.add(new TriPoint(x-1, y-1, Slot.B));
-    if (board.areCordsValid(x, y-1, Slot.A))    output.add(new TriPoint(x, y-1, Slot.A));
-    if (slot.isB()) {
-      if (board.areCordsValid(x, y-1, Slot.B))    output.add(new TriPoint(x, y-1, Slot.B));
-      if (board.areCordsValid(x+1, y-1, Slot.A))  output.add(new TriPoint(x+1, y-1, Slot.A));
-    } else {
-      if (board.areCordsValid(x-1, y, Slot.A))  output.add(new TriPoint(x-1, y, Slot.A));
-    }
-    if (board.areCordsValid(x-1, y, Slot.B))      output.add(new TriPoint(x-1, y, Slot.B));
-    if (board.areCordsValid(x, y, slot.other()))  output.add(new TriPoint(x, y, slot.other()));
-    if (board.areCordsValid(x+1, y, Slot.A))      output.add(new TriPoint(x+1, y, Slot.A));
-    if (slot.isB()) {
-      if (board.areCordsValid(x+1, y, Slot.B))  output.add(new TriPoint(x+1, y, Slot.B));
-    } else {
-      if (board.areCordsValid(x-1, y+1, Slot.B))  output.add(new TriPoint(x-1, y+1, Slot.B));
-      if (board.areCordsValid(x, y+1, Slot.A))    output.add(new TriPoint(x, y+1, Slot.A));
+    TriAdjacency adjacency = board.adjacency();
+    int[] targets = adjacency.getVertexTargets();
+    int index = TriGrid.indexOf(point.x, point.y, point.slot);
+    ArrayList<TriPoint> output = new ArrayList<>(adjacency.vertexEnd(index) - adjacency.vertexStart(index));
+    for (int i = adjacency.vertexStart(index); i < adjacency.vertexEnd(index); i++) {
+      output.add(TriGrid.pointOf(targets[i]));
     }
-    if (board.areCordsValid(x, y+1, Slot.B))    output.add(new TriPoint(x, y+1, Slot.B));
-    if (board.areCordsValid(x+1, y+1, Slot.A))  output.add(new TriPoint(x+1, y+1, Slot.A));
-    if (board.areCordsValid(x+1, y+1, Slot.B))  output.add(new TriPoint(x+1, y+1, Slot.B));
     return output;
   }
 }
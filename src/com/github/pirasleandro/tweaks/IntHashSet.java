@@ -0,0 +1,194 @@
+package com.github.pirasleandro.tweaks;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * A set of primitive ints, like slot indices, without boxing them.
+ * The ints are stored in one array with open addressing and linear probing, removals shift the
+ * following ints back, so no tombstones are left behind.
+ */
+public class IntHashSet {
+
+    private static final int MIN_CAPACITY = 8;
+    private int[] keys;
+    private boolean[] used;
+    private int size;
+    private int mask;
+
+    /**
+     * Creates an empty set.
+     */
+    public IntHashSet() {
+        this(0);
+    }
+
+    /**
+     * Creates an empty set that holds the given amount of ints without growing.
+     * @param expectedSize amount of ints that will be added
+     * @throws IllegalArgumentException if the expected size is negative
+     */
+    public IntHashSet(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("expected size must not be negative: " + expectedSize);
+        }
+        allocate(capacityFor(expectedSize));
+    }
+
+    /**
+     * Adds the given int to the set.
+     * @param key int to be added
+     * @return true if the int was not in the set yet
+     */
+    public boolean add(int key) {
+        int slot = find(key);
+        if (used[slot]) {
+            return false;
+        }
+        keys[slot] = key;
+        used[slot] = true;
+        if (++size > (mask+1) / 2) {
+            grow();
+        }
+        return true;
+    }
+
+    /**
+     * Returns whether the given int is in the set.
+     * @param key int to be looked for
+     * @return true if the int is in the set
+     */
+    public boolean contains(int key) {
+        return used[find(key)];
+    }
+
+    /**
+     * Removes the given int from the set.
+     * @param key int to be removed
+     * @return true if the int was in the set
+     */
+    public boolean remove(int key) {
+        int slot = find(key);
+        if (!used[slot]) {
+            return false;
+        }
+        shiftBack(slot);
+        size--;
+        return true;
+    }
+
+    /**
+     * Removes all ints from the set, keeping its capacity.
+     */
+    public void clear() {
+        Arrays.fill(used, false);
+        size = 0;
+    }
+
+    /**
+     * Returns the amount of ints in the set.
+     * @return size of the set
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns whether the set is empty.
+     * @return true if there are no ints in the set
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Calls the given action for every int in the set, in no particular order.
+     * @param action action called for every int
+     */
+    public void forEach(IntConsumer action) {
+        for (int i = 0; i < keys.length; i++) {
+            if (used[i]) {
+                action.accept(keys[i]);
+            }
+        }
+    }
+
+    /**
+     * Returns all ints of the set in a new array, in no particular order.
+     * @return array of the ints
+     */
+    public int[] toArray() {
+        int[] output = new int[size];
+        int index = 0;
+        for (int i = 0; i < keys.length; i++) {
+            if (used[i]) {
+                output[index++] = keys[i];
+            }
+        }
+        return output;
+    }
+
+    /**
+     * Returns the slot of the given int, or the empty slot it would be added to.
+     */
+    private int find(int key) {
+        int slot = hash(key) & mask;
+        while (used[slot] && keys[slot] != key) {
+            slot = (slot+1) & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * Empties the given slot and moves the following ints of its probe sequence back,
+     * so every int stays reachable from its home slot.
+     */
+    private void shiftBack(int slot) {
+        int next = (slot+1) & mask;
+        while (used[next]) {
+            int home = hash(keys[next]) & mask;
+            // moves the int if its home slot is not between the empty slot and its current slot
+            if (((next - home) & mask) >= ((next - slot) & mask)) {
+                keys[slot] = keys[next];
+                slot = next;
+            }
+            next = (next+1) & mask;
+        }
+        used[slot] = false;
+    }
+
+    private void grow() {
+        int[] oldKeys = keys;
+        boolean[] oldUsed = used;
+        allocate(keys.length * 2);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldUsed[i]) {
+                int slot = find(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                used[slot] = true;
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        used = new boolean[capacity];
+        mask = capacity-1;
+    }
+
+    private static int capacityFor(int expectedSize) {
+        int capacity = MIN_CAPACITY;
+        while (capacity / 2 < expectedSize) {
+            if (capacity >= (1 << 30)) {
+                throw new IllegalArgumentException("too many ints for a set: " + expectedSize);
+            }
+            capacity *= 2;
+        }
+        return capacity;
+    }
+
+    private static int hash(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}